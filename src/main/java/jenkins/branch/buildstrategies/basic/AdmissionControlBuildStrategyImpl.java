@@ -0,0 +1,268 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.TaskListener;
+import hudson.util.FormValidation;
+import hudson.util.LogTaskListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.branch.BranchBuildStrategy;
+import jenkins.branch.BranchBuildStrategyDescriptor;
+import jenkins.branch.buildstrategies.basic.NamedBranchBuildStrategyImpl.NameFilter;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMSource;
+import org.jenkinsci.Symbol;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+
+/**
+ * A {@link BranchBuildStrategy} that builds branches based on the results of all sub strategies matching, but defers
+ * the builds while the build queue of the controller holds more items than the idle executors can take by a
+ * configurable watermark, such as when a new organization folder is imported or after a restart. Heads matching the
+ * critical name filters are built regardless. Deferred builds are picked up by the next branch indexing or event.
+ */
+public class AdmissionControlBuildStrategyImpl extends BranchBuildStrategy implements NameFilterContainer {
+
+    /**
+     * The strategies that must all match.
+     */
+    @NonNull
+    private final List<BranchBuildStrategy> strategies;
+
+    /**
+     * The number of queue items waiting for an executor above which builds are deferred.
+     */
+    private final int maxBacklog;
+
+    /**
+     * The filters of the heads that are never deferred.
+     */
+    @NonNull
+    private final List<NameFilter> criticalFilters;
+
+    /**
+     * Our constructor.
+     *
+     * @param strategies      the strategies that must all match, nothing is built when empty.
+     * @param maxBacklog      the number of queue items waiting for an executor above which builds are deferred.
+     * @param criticalFilters the filters of the heads that are never deferred.
+     */
+    @DataBoundConstructor
+    public AdmissionControlBuildStrategyImpl(
+            @CheckForNull List<BranchBuildStrategy> strategies,
+            int maxBacklog,
+            @CheckForNull List<NameFilter> criticalFilters) {
+        this.strategies = new ArrayList<>(Util.fixNull(strategies));
+        this.maxBacklog = Math.max(0, maxBacklog);
+        this.criticalFilters = new ArrayList<>(Util.fixNull(criticalFilters));
+    }
+
+    @NonNull
+    public List<BranchBuildStrategy> getStrategies() {
+        return Collections.unmodifiableList(strategies);
+    }
+
+    public int getMaxBacklog() {
+        return maxBacklog;
+    }
+
+    @NonNull
+    public List<NameFilter> getCriticalFilters() {
+        return Collections.unmodifiableList(criticalFilters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Restricted(NoExternalUse.class)
+    public void collectNameFilters(@NonNull Set<NameFilter> filters) {
+        filters.addAll(criticalFilters);
+        for (BranchBuildStrategy strategy : strategies) {
+            NameFilterWarmUp.collect(strategy, filters);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision) {
+        return isAutomaticBuild(
+                source,
+                head,
+                currRevision,
+                prevRevision,
+                new LogTaskListener(Logger.getLogger(getClass().getName()), Level.INFO));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision,
+            @NonNull TaskListener taskListener) {
+        return isAutomaticBuild(source, head, currRevision, prevRevision, prevRevision, taskListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision lastBuiltRevision,
+            @CheckForNull SCMRevision lastSeenRevision,
+            @NonNull TaskListener listener) {
+        if (strategies.isEmpty()) {
+            return false;
+        }
+        // checked before the sub strategies so that deferred builds do not count against their limits
+        ControllerLoad load = ControllerLoad.get();
+        if (load.getBacklog() > maxBacklog && !isCritical(head.getName(), listener)) {
+            listener.getLogger()
+                    .format(
+                            "Deferring build of %s as %d items are in the build queue with %d idle executors%n",
+                            head.getName(), load.getQueueLength(), load.getIdleExecutors());
+            return false;
+        }
+        for (BranchBuildStrategy strategy : strategies) {
+            if (!strategy.automaticBuild(
+                    source, head, currRevision, lastBuiltRevision, lastSeenRevision, listener)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the head name matches any of the {@link #criticalFilters}.
+     *
+     * @param name     the head name.
+     * @param listener the listener to report slow matches to.
+     * @return {@code true} if the head is never deferred.
+     */
+    private boolean isCritical(@NonNull String name, @NonNull TaskListener listener) {
+        for (NameFilter filter : criticalFilters) {
+            if (filter.isMatch(name, listener)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AdmissionControlBuildStrategyImpl that = (AdmissionControlBuildStrategyImpl) o;
+
+        if (maxBacklog != that.maxBacklog) {
+            return false;
+        }
+        if (!strategies.equals(that.strategies)) {
+            return false;
+        }
+        return criticalFilters.equals(that.criticalFilters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int result = strategies.hashCode();
+        result = 31 * result + maxBacklog;
+        result = 31 * result + criticalFilters.hashCode();
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "AdmissionControlBuildStrategyImpl{" + "strategies=" + strategies + ", maxBacklog=" + maxBacklog
+                + ", criticalFilters=" + criticalFilters + '}';
+    }
+
+    /**
+     * Our descriptor.
+     */
+    @Symbol("admissionControl")
+    @Extension
+    public static class DescriptorImpl extends BranchBuildStrategyDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public String getDisplayName() {
+            return Messages.AdmissionControlBuildStrategyImpl_displayName();
+        }
+
+        /**
+         * Form validation for the number of queue items.
+         *
+         * @param value the number of queue items.
+         * @return the validation results.
+         */
+        @Restricted(NoExternalUse.class) // stapler
+        public FormValidation doCheckMaxBacklog(@QueryParameter String value) {
+            return FormValidation.validateNonNegativeInteger(value);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable Aho-Corasick automaton that answers whether a name contains any of a set of substrings. Matching
+ * is linear in the length of the name irrespective of the number of substrings.
+ */
+final class AhoCorasickAutomaton {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    /**
+     * The root of the automaton.
+     */
+    @NonNull
+    private final Node root;
+
+    /**
+     * {@code false} if both the substrings and the names are case folded before comparison.
+     */
+    private final boolean caseSensitive;
+
+    /**
+     * Constructor.
+     *
+     * @param substrings    the substrings to search for.
+     * @param caseSensitive {@code true} to match case sensitively.
+     */
+    AhoCorasickAutomaton(@NonNull Iterable<String> substrings, boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+        Builder root = new Builder();
+        for (String substring : substrings) {
+            Builder node = root;
+            for (int i = 0; i < substring.length() && !node.terminal; i++) {
+                node = node.children.computeIfAbsent(fold(substring.charAt(i)), k -> new Builder());
+            }
+            node.terminal = true;
+        }
+        this.root = root.build();
+        linkFailures(this.root);
+    }
+
+    /**
+     * Checks if the supplied name contains any of the substrings.
+     *
+     * @param name the name.
+     * @return {@code true} if at least one of the substrings occurs in the name.
+     */
+    boolean matches(@NonNull CharSequence name) {
+        Node node = root;
+        if (node.output) {
+            return true;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = fold(name.charAt(i));
+            Node next;
+            while ((next = node.child(c)) == null && node != root) {
+                node = node.fail;
+            }
+            node = next == null ? root : next;
+            if (node.output) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private char fold(char c) {
+        // same folding as String.equalsIgnoreCase but without allocating a lowercase copy of the name
+        return caseSensitive ? c : Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Computes the failure links breadth first, propagating the output flag along them so that a single check
+     * per character is enough.
+     *
+     * @param root the root node.
+     */
+    private static void linkFailures(@NonNull Node root) {
+        Deque<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+        for (Node child : root.children) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            for (int i = 0; i < node.keys.length; i++) {
+                char c = node.keys[i];
+                Node child = node.children[i];
+                Node fail = node.fail;
+                Node target;
+                while ((target = fail.child(c)) == null && fail != root) {
+                    fail = fail.fail;
+                }
+                child.fail = target == null ? root : target;
+                child.output |= child.fail.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * A frozen automaton node, children are looked up by binary search over the sorted keys. The failure links and
+     * output flags are only written by {@link #linkFailures(Node)} from the constructor, so they are visible to every
+     * thread that reads the automaton through its final {@link #root} once the automaton has been published, and
+     * they never change after that.
+     */
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private boolean output;
+        private Node fail;
+
+        private Node(char[] keys, Node[] children, boolean output) {
+            this.keys = keys;
+            this.children = children;
+            this.output = output;
+        }
+
+        @CheckForNull
+        private Node child(char c) {
+            int low = 0;
+            int high = keys.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char k = keys[mid];
+                if (k < c) {
+                    low = mid + 1;
+                } else if (k > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A mutable trie node used during construction.
+     */
+    private static final class Builder {
+        private final Map<Character, Builder> children = new TreeMap<>();
+        private boolean terminal;
+
+        private Node build() {
+            if (terminal || children.isEmpty()) {
+                // matching stops as soon as a substring is found so anything below a terminal is unreachable
+                return new Node(NO_KEYS, NO_CHILDREN, terminal);
+            }
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i] = entry.getValue().build();
+                i++;
+            }
+            return new Node(keys, nodes, false);
+        }
+    }
+}
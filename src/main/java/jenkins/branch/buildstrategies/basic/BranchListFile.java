@@ -0,0 +1,606 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import jenkins.util.Timer;
+
+/**
+ * A list of names, one per line, read from a file on the controller. The names are held in a compact open addressing
+ * hash table of offsets into a copy of the file contents. In compact mode only a Bloom filter and the sorted 64-bit
+ * hashes of the names are kept, which needs a fraction of the heap, and the file contents are dropped once hashed. The
+ * file is reloaded in the background whenever its modification time or size changes, lookups keep using the previous
+ * contents until the reload has completed, and if the reload fails. The file itself is never memory mapped, as it may
+ * be rewritten in place while in use. Small files are read onto the heap, while huge files are copied to a private
+ * snapshot under {@code $JENKINS_HOME/caches/branch-lists} that is memory mapped and deleted once mapped.
+ */
+final class BranchListFile {
+
+    /**
+     * Our logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(BranchListFile.class.getName());
+
+    /**
+     * The directory that relative paths are resolved against, defaults to {@code $JENKINS_HOME/branch-lists}.
+     */
+    private static final String ROOT = SystemProperties.getString(BranchListFile.class.getName() + ".root");
+
+    /**
+     * How often to check the file for changes.
+     */
+    private static final long CHECK_INTERVAL_MILLIS =
+            SystemProperties.getLong(BranchListFile.class.getName() + ".checkIntervalMillis", 10000L);
+
+    /**
+     * The size from which files are memory mapped from a snapshot copy rather than read onto the heap.
+     */
+    private static final long MAP_THRESHOLD_BYTES =
+            SystemProperties.getLong(BranchListFile.class.getName() + ".mapThresholdBytes", 16L * 1024 * 1024);
+
+    /**
+     * The loaded files, shared by all the filters that reference the same file. The filters hold the instances, so
+     * the files that no filter references any more, such as those only tested from the configuration form, are
+     * dropped by the garbage collector.
+     */
+    private static final ConcurrentMap<Key, WeakReference<BranchListFile>> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * The file.
+     */
+    @NonNull
+    private final Path file;
+
+    /**
+     * {@code true} to hold the names in a Bloom filter rather than a hash table.
+     */
+    private final boolean compact;
+
+    /**
+     * The directory to copy the snapshots of huge files to, {@code null} for the default.
+     */
+    @CheckForNull
+    private final Path snapshots;
+
+    /**
+     * The size from which the file is memory mapped from a snapshot copy.
+     */
+    private final long mapThresholdBytes;
+
+    /**
+     * The current contents, {@code null} until the first load.
+     */
+    @CheckForNull
+    private volatile Names names;
+
+    /**
+     * When the file should next be checked for changes.
+     */
+    private volatile long nextCheckNanos;
+
+    /**
+     * Set while a background reload is pending.
+     */
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    /**
+     * Set while loading fails, so that a file that stays unreadable is only reported once.
+     */
+    private volatile boolean failing;
+
+    BranchListFile(@NonNull Path file, boolean compact) {
+        this(file, compact, null, MAP_THRESHOLD_BYTES);
+    }
+
+    BranchListFile(@NonNull Path file, boolean compact, @CheckForNull Path snapshots, long mapThresholdBytes) {
+        this.file = file;
+        this.compact = compact;
+        this.snapshots = snapshots;
+        this.mapThresholdBytes = mapThresholdBytes;
+    }
+
+    /**
+     * Returns the shared instance for a path relative to the branch list directory.
+     *
+     * @param path    the relative path.
+     * @param compact {@code true} to hold the names in a Bloom filter rather than a hash table.
+     * @return the shared instance.
+     * @throws IllegalArgumentException if the path is absolute or escapes the branch list directory.
+     */
+    @NonNull
+    static BranchListFile of(@NonNull String path, boolean compact) {
+        Key key = new Key(resolve(path), compact);
+        while (true) {
+            WeakReference<BranchListFile> current = INSTANCES.get(key);
+            BranchListFile instance = current == null ? null : current.get();
+            if (instance != null) {
+                return instance;
+            }
+            INSTANCES.values().removeIf(reference -> reference.get() == null);
+            instance = new BranchListFile(key.file(), key.compact());
+            WeakReference<BranchListFile> created = new WeakReference<>(instance);
+            if (current == null
+                    ? INSTANCES.putIfAbsent(key, created) == null
+                    : INSTANCES.replace(key, current, created)) {
+                return instance;
+            }
+        }
+    }
+
+    /**
+     * Resolves a path relative to the branch list directory.
+     *
+     * @param path the relative path.
+     * @return the resolved path.
+     * @throws IllegalArgumentException if the path is absolute or escapes the branch list directory.
+     */
+    @NonNull
+    static Path resolve(@NonNull String path) {
+        Path root = (ROOT != null ? new File(ROOT) : new File(Jenkins.get().getRootDir(), "branch-lists"))
+                .toPath()
+                .toAbsolutePath()
+                .normalize();
+        Path relative = root.getFileSystem().getPath(path);
+        if (path.isBlank() || relative.isAbsolute()) {
+            throw new IllegalArgumentException("Path must be relative to " + root);
+        }
+        Path resolved = root.resolve(relative).normalize();
+        if (!resolved.startsWith(root) || resolved.equals(root)) {
+            throw new IllegalArgumentException("Path must be within " + root);
+        }
+        return resolved;
+    }
+
+    /**
+     * Checks if the file lists the supplied name.
+     *
+     * @param name the name.
+     * @return {@code true} if the name is one of the lines of the file.
+     */
+    boolean contains(@NonNull String name) {
+        Names names = this.names;
+        if (names == null) {
+            names = loadInitial();
+        } else if (System.nanoTime() - nextCheckNanos >= 0) {
+            checkForChanges(names);
+        }
+        return names.contains(ByteBuffer.wrap(name.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the number of names currently loaded.
+     *
+     * @return the number of names currently loaded.
+     */
+    int size() {
+        Names names = this.names;
+        return names == null ? loadInitial().size() : names.size();
+    }
+
+    private synchronized Names loadInitial() {
+        Names names = this.names;
+        if (names == null) {
+            try {
+                names = load();
+            } catch (IOException e) {
+                reportFailure(e);
+                names = new HashedNames(ByteBuffer.allocate(0), -1L, -1L);
+            }
+            this.names = names;
+            nextCheckNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CHECK_INTERVAL_MILLIS);
+        }
+        return names;
+    }
+
+    private void checkForChanges(@NonNull Names current) {
+        nextCheckNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CHECK_INTERVAL_MILLIS);
+        long lastModified;
+        long size;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            lastModified = attributes.lastModifiedTime().toMillis();
+            size = attributes.size();
+        } catch (IOException e) {
+            lastModified = -1L;
+            size = -1L;
+        }
+        if (lastModified == current.lastModified && size == current.fileSize) {
+            return;
+        }
+        if (reloading.compareAndSet(false, true)) {
+            Timer.get().submit(() -> {
+                try {
+                    reload();
+                } finally {
+                    reloading.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Replaces the current contents with those of the file, keeping the current contents if the file cannot be read.
+     */
+    void reload() {
+        try {
+            names = load();
+        } catch (IOException e) {
+            reportFailure(e);
+        }
+    }
+
+    private void reportFailure(@NonNull IOException e) {
+        Level level = failing ? Level.FINE : Level.WARNING;
+        failing = true;
+        if (e instanceof NoSuchFileException) {
+            LOGGER.log(level, "Branch list file {0} does not exist", file);
+        } else {
+            LOGGER.log(level, "Could not read branch list file " + file, e);
+        }
+    }
+
+    /**
+     * Loads the current file contents.
+     *
+     * @return the names.
+     * @throws IOException if the file could not be read.
+     */
+    @NonNull
+    private Names load() throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("File is larger than 2GiB");
+        }
+        ByteBuffer data = size >= mapThresholdBytes ? mapSnapshot() : ByteBuffer.wrap(Files.readAllBytes(file));
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        Names names = compact
+                ? new BloomNames(data, lastModified, size)
+                : new HashedNames(data, lastModified, size);
+        failing = false;
+        LOGGER.log(Level.FINE, "Loaded {0} names from {1}", new Object[] {names.size(), file});
+        return names;
+    }
+
+    /**
+     * Copies the file to a private snapshot and memory maps the snapshot, so that the file can still be rewritten in
+     * place. The snapshot is deleted once mapped, on platforms that do not allow this it is deleted on exit.
+     *
+     * @return the mapped contents.
+     * @throws IOException if the file could not be copied or mapped.
+     */
+    @NonNull
+    private ByteBuffer mapSnapshot() throws IOException {
+        Path directory = snapshots != null
+                ? snapshots
+                : new File(Jenkins.get().getRootDir(), "caches/branch-lists").toPath();
+        Files.createDirectories(directory);
+        Path snapshot = Files.createTempFile(directory, "snapshot", ".txt");
+        try {
+            Files.copy(file, snapshot, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("File is larger than 2GiB");
+                }
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        } finally {
+            try {
+                Files.deleteIfExists(snapshot);
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not delete mapped snapshot " + snapshot, e);
+                snapshot.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * The registry key of a shared instance.
+     *
+     * @param file    the file.
+     * @param compact {@code true} to hold the names in a Bloom filter rather than a hash table.
+     */
+    private record Key(@NonNull Path file, boolean compact) {}
+
+    /**
+     * Receives the names of a file.
+     */
+    @FunctionalInterface
+    private interface LineConsumer {
+        void accept(int start, int length);
+    }
+
+    /**
+     * Calls the consumer with the offset and length of every name in the file contents, skipping blank and comment
+     * lines and trimming leading and trailing whitespace.
+     *
+     * @param data     the file contents.
+     * @param consumer the consumer.
+     */
+    private static void forEachName(ByteBuffer data, LineConsumer consumer) {
+        int start = 0;
+        while (start < data.limit()) {
+            int end = start;
+            while (end < data.limit() && data.get(end) != '\n') {
+                end++;
+            }
+            int next = end + 1;
+            while (start < end && isWhitespace(data.get(start))) {
+                start++;
+            }
+            while (end > start && isWhitespace(data.get(end - 1))) {
+                end--;
+            }
+            if (end > start && data.get(start) != '#') {
+                consumer.accept(start, end - start);
+            }
+            start = next;
+        }
+    }
+
+    private static int countLines(ByteBuffer data) {
+        int lines = 1;
+        for (int i = 0; i < data.limit(); i++) {
+            if (data.get(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private static long hash(ByteBuffer data, int start, int length) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = start; i < start + length; i++) {
+            h = (h ^ (data.get(i) & 0xff)) * 0x100000001b3L;
+        }
+        return h ^ (h >>> 29);
+    }
+
+    private static boolean regionEquals(ByteBuffer a, int aStart, ByteBuffer b, int bStart, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a.get(aStart + i) != b.get(bStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    /**
+     * An immutable snapshot of the file contents.
+     */
+    private abstract static class Names {
+        /**
+         * The modification time the snapshot was loaded from.
+         */
+        final long lastModified;
+        /**
+         * The file size the snapshot was loaded from.
+         */
+        final long fileSize;
+
+        Names(long lastModified, long fileSize) {
+            this.lastModified = lastModified;
+            this.fileSize = fileSize;
+        }
+
+        /**
+         * Returns the number of distinct names.
+         *
+         * @return the number of distinct names.
+         */
+        abstract int size();
+
+        /**
+         * Checks if the snapshot contains the name.
+         *
+         * @param name the UTF-8 encoded name.
+         * @return {@code true} if the snapshot contains the name.
+         */
+        abstract boolean contains(@NonNull ByteBuffer name);
+    }
+
+    /**
+     * Holds the names in an open addressing hash table of offsets into the file contents.
+     */
+    private static final class HashedNames extends Names {
+        /**
+         * The raw UTF-8 file contents.
+         */
+        private final ByteBuffer data;
+        /**
+         * Open addressing table of {@code offset << 32 | length} entries, zero for an empty slot.
+         */
+        private final long[] slots;
+        /**
+         * The number of distinct names.
+         */
+        private final int size;
+
+        private HashedNames(ByteBuffer data, long lastModified, long fileSize) {
+            super(lastModified, fileSize);
+            this.data = data;
+            long[] slots = new long[Integer.highestOneBit(countLines(data) * 2) << 1];
+            int[] size = new int[1];
+            forEachName(data, (start, length) -> {
+                int slot = find(slots, data, data, start, length);
+                if (slots[slot] == 0L) {
+                    slots[slot] = ((long) start << 32) | length;
+                    size[0]++;
+                }
+            });
+            this.slots = slots;
+            this.size = size[0];
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        boolean contains(@NonNull ByteBuffer name) {
+            return name.limit() > 0 && slots[find(slots, data, name, 0, name.limit())] != 0L;
+        }
+
+        /**
+         * Finds the slot holding a name or the empty slot where it would be inserted.
+         *
+         * @param slots  the table.
+         * @param data   the file contents the table entries refer to.
+         * @param key    the buffer holding the name.
+         * @param start  the offset of the name.
+         * @param length the length of the name.
+         * @return the slot.
+         */
+        private static int find(long[] slots, ByteBuffer data, ByteBuffer key, int start, int length) {
+            int mask = slots.length - 1;
+            for (int slot = (int) hash(key, start, length) & mask; ; slot = (slot + 1) & mask) {
+                long entry = slots[slot];
+                if (entry == 0L) {
+                    return slot;
+                }
+                if ((int) entry == length && regionEquals(data, (int) (entry >>> 32), key, start, length)) {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    /**
+     * Holds a Bloom filter of the name hashes so that most names that are not in the file are rejected with a few bit
+     * probes. Possible matches are confirmed by binary search of the sorted 64-bit hashes of the names. The file
+     * contents are not kept, so two names are only confused if their 64-bit hashes collide.
+     */
+    private static final class BloomNames extends Names {
+        /**
+         * The number of bits to set per name, which with {@link #BITS_PER_NAME} gives a false positive rate of
+         * roughly 1%.
+         */
+        private static final int PROBES = 7;
+        /**
+         * The number of bits of filter per name.
+         */
+        private static final int BITS_PER_NAME = 10;
+        /**
+         * The Bloom filter bits.
+         */
+        private final long[] bits;
+        /**
+         * The distinct hashes of the names in ascending order.
+         */
+        private final long[] hashes;
+
+        private BloomNames(ByteBuffer data, long lastModified, long fileSize) {
+            super(lastModified, fileSize);
+            long[] hashes = new long[countLines(data)];
+            int[] count = new int[1];
+            forEachName(data, (start, length) -> hashes[count[0]++] = hash(data, start, length));
+            long[] sorted = Arrays.copyOf(hashes, count[0]);
+            Arrays.sort(sorted);
+            this.hashes = distinct(sorted);
+            this.bits = new long[Math.max(1, (int) (((long) this.hashes.length * BITS_PER_NAME + 63) / 64))];
+            for (long h : this.hashes) {
+                for (int i = 0; i < PROBES; i++) {
+                    long bit = probe(h, i);
+                    bits[(int) (bit >>> 6)] |= 1L << bit;
+                }
+            }
+        }
+
+        @Override
+        int size() {
+            return hashes.length;
+        }
+
+        @Override
+        boolean contains(@NonNull ByteBuffer name) {
+            int length = name.limit();
+            if (length == 0) {
+                return false;
+            }
+            long h = hash(name, 0, length);
+            for (int i = 0; i < PROBES; i++) {
+                long bit = probe(h, i);
+                if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0L) {
+                    return false;
+                }
+            }
+            return Arrays.binarySearch(hashes, h) >= 0;
+        }
+
+        /**
+         * Returns the bit index for the i-th probe using double hashing.
+         *
+         * @param h the hash of the name.
+         * @param i the probe number.
+         * @return the bit index.
+         */
+        private long probe(long h, int i) {
+            return Long.remainderUnsigned((h & 0xffffffffL) + i * (h >>> 32 | 1L), bits.length * 64L);
+        }
+
+        /**
+         * Removes the duplicate hashes.
+         *
+         * @param hashes the hashes in ascending order.
+         * @return the distinct hashes.
+         */
+        private static long[] distinct(long[] hashes) {
+            int count = 0;
+            for (int i = 0; i < hashes.length; i++) {
+                if (count == 0 || hashes[count - 1] != hashes[i]) {
+                    hashes[count++] = hashes[i];
+                }
+            }
+            return count == hashes.length ? hashes : Arrays.copyOf(hashes, count);
+        }
+    }
+}
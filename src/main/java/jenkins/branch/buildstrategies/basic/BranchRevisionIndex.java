@@ -0,0 +1,169 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.Actionable;
+import hudson.model.Queue;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.RunListener;
+import hudson.model.queue.QueueListener;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMRevisionAction;
+import jenkins.scm.api.mixin.ChangeRequestSCMHead;
+import jenkins.util.SystemProperties;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Remembers the revision each branch was last scheduled or built at, by source ID and branch name, so that change
+ * requests from a branch of the same repository can tell whether their revision is already being built. The index
+ * is fed from the queue and from build starts, it is kept in memory only and starts empty after a restart.
+ */
+@Restricted(NoExternalUse.class)
+public final class BranchRevisionIndex {
+
+    /**
+     * The maximum number of branches to remember, the index is cleared when this is exceeded.
+     */
+    private static final int MAX_SIZE =
+            SystemProperties.getInteger(BranchRevisionIndex.class.getName() + ".maxSize", 100000);
+
+    /**
+     * The revisions by source ID and branch name.
+     */
+    private static final ConcurrentMap<String, String> REVISIONS = new ConcurrentHashMap<>();
+
+    private BranchRevisionIndex() {}
+
+    /**
+     * Checks if the branch was last scheduled or built at the revision.
+     *
+     * @param sourceId the source ID.
+     * @param branch   the branch name.
+     * @param revision the revision, as returned by {@link SCMRevision#toString()}.
+     * @return {@code true} if the branch was last scheduled or built at the revision.
+     */
+    static boolean contains(@NonNull String sourceId, @NonNull String branch, @NonNull String revision) {
+        return revision.equals(REVISIONS.get(key(sourceId, branch)));
+    }
+
+    /**
+     * Records that the branch was scheduled or built at the revision.
+     *
+     * @param sourceId the source ID.
+     * @param branch   the branch name.
+     * @param revision the revision, as returned by {@link SCMRevision#toString()}.
+     */
+    static void record(@NonNull String sourceId, @NonNull String branch, @NonNull String revision) {
+        if (REVISIONS.size() >= MAX_SIZE) {
+            REVISIONS.clear();
+        }
+        REVISIONS.put(key(sourceId, branch), revision);
+    }
+
+    /**
+     * Forgets that the branch was scheduled at the revision, unless it has since been scheduled at another one.
+     *
+     * @param sourceId the source ID.
+     * @param branch   the branch name.
+     * @param revision the revision, as returned by {@link SCMRevision#toString()}.
+     */
+    static void forget(@NonNull String sourceId, @NonNull String branch, @NonNull String revision) {
+        REVISIONS.remove(key(sourceId, branch), revision);
+    }
+
+    private static String key(String sourceId, String branch) {
+        return sourceId + "::" + branch;
+    }
+
+    /**
+     * Returns the revision action of a branch build.
+     *
+     * @param actionable the queue item or build.
+     * @return the revision action, or {@code null} if not a branch build.
+     */
+    @CheckForNull
+    private static SCMRevisionAction branchRevision(@NonNull Actionable actionable) {
+        SCMRevisionAction action = actionable.getAction(SCMRevisionAction.class);
+        if (action == null
+                || action.getSourceId() == null
+                || action.getRevision().getHead() instanceof ChangeRequestSCMHead) {
+            return null;
+        }
+        return action;
+    }
+
+    /**
+     * Records the revisions of scheduled branch builds.
+     */
+    @Restricted(NoExternalUse.class)
+    @Extension
+    public static class QueueListenerImpl extends QueueListener {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onEnterWaiting(Queue.WaitingItem wi) {
+            SCMRevisionAction action = branchRevision(wi);
+            if (action != null) {
+                record(action.getSourceId(), action.getRevision().getHead().getName(), action.getRevision().toString());
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onLeft(Queue.LeftItem li) {
+            SCMRevisionAction action = li.isCancelled() ? branchRevision(li) : null;
+            if (action != null) {
+                forget(action.getSourceId(), action.getRevision().getHead().getName(), action.getRevision().toString());
+            }
+        }
+    }
+
+    /**
+     * Records the revisions of started branch builds, including those scheduled before a restart.
+     */
+    @Restricted(NoExternalUse.class)
+    @Extension
+    public static class RunListenerImpl extends RunListener<Run<?, ?>> {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onStarted(Run<?, ?> run, TaskListener listener) {
+            SCMRevisionAction action = branchRevision(run);
+            if (action != null) {
+                record(action.getSourceId(), action.getRevision().getHead().getName(), action.getRevision().toString());
+            }
+        }
+    }
+}
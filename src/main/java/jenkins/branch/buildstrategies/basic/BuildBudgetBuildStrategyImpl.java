@@ -0,0 +1,218 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.Executor;
+import hudson.model.Queue;
+import hudson.model.TaskListener;
+import hudson.util.FormValidation;
+import hudson.util.LogTaskListener;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.branch.BranchBuildStrategy;
+import jenkins.branch.BranchBuildStrategyDescriptor;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMSource;
+import jenkins.scm.api.SCMSourceOwner;
+import jenkins.scm.api.mixin.TagSCMHead;
+import org.jenkinsci.Symbol;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+
+/**
+ * A {@link BranchBuildStrategy} that limits the number of automatic builds one indexing pass of a project can trigger,
+ * so that the first indexing of a large repository does not fill the build queue. The heads over the budget are built
+ * by later passes, most recently updated first, using the timestamp of tags and when the revision of other heads was
+ * first seen. Events are not limited and do not count against the budget. A build is counted as soon as this
+ * strategy allows it, so it is intended to be the last strategy combined through {@link AllBranchBuildStrategyImpl}.
+ */
+public class BuildBudgetBuildStrategyImpl extends BranchBuildStrategy {
+
+    private final int maxBuilds;
+
+    /**
+     * Our constructor.
+     *
+     * @param maxBuilds the maximum number of automatic builds per indexing pass of a project, {@code 0} for no limit.
+     */
+    @DataBoundConstructor
+    public BuildBudgetBuildStrategyImpl(int maxBuilds) {
+        this.maxBuilds = Math.max(0, maxBuilds);
+    }
+
+    public int getMaxBuilds() {
+        return maxBuilds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision) {
+        return isAutomaticBuild(
+                source,
+                head,
+                currRevision,
+                prevRevision,
+                new LogTaskListener(Logger.getLogger(getClass().getName()), Level.INFO));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision,
+            @NonNull TaskListener taskListener) {
+        return isAutomaticBuild(source, head, currRevision, prevRevision, prevRevision, taskListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision lastBuiltRevision,
+            @CheckForNull SCMRevision lastSeenRevision,
+            @NonNull TaskListener listener) {
+        SCMSourceOwner owner = source.getOwner();
+        if (maxBuilds == 0 || owner == null) {
+            return true;
+        }
+        Queue.Executable indexing = indexing(owner);
+        if (indexing == null) {
+            // events build single heads as they change, only branch indexing can queue builds in bulk
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        long recency = head instanceof TagSCMHead tag
+                ? tag.getTimestamp()
+                : RevisionFirstSeenIndex.firstSeen(source.getId(), head.getName(), currRevision.toString(), now);
+        switch (IndexingPassBudget.admit(owner.getFullName(), indexing, recency, maxBuilds)) {
+            case BUDGET_SPENT:
+                listener.getLogger()
+                        .format(
+                                "Not building %s yet as this indexing has already triggered %d builds%n",
+                                head.getName(), maxBuilds);
+                return false;
+            case NEWER_WAITING:
+                listener.getLogger()
+                        .format("Not building %s yet as more recently updated heads are waiting%n", head.getName());
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Returns the branch indexing of the owner that the current thread is running.
+     *
+     * @param owner the owner of the source.
+     * @return the branch indexing, or {@code null} if the question comes from an event or anything else.
+     */
+    @CheckForNull
+    static Queue.Executable indexing(@NonNull SCMSourceOwner owner) {
+        Executor executor = Executor.currentExecutor();
+        Queue.Executable executable = executor == null ? null : executor.getCurrentExecutable();
+        return executable != null && executable.getParent().getOwnerTask() == owner ? executable : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BuildBudgetBuildStrategyImpl that = (BuildBudgetBuildStrategyImpl) o;
+
+        return maxBuilds == that.maxBuilds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return maxBuilds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "BuildBudgetBuildStrategyImpl{" + "maxBuilds=" + maxBuilds + '}';
+    }
+
+    /**
+     * Our descriptor.
+     */
+    @Symbol("buildBudget")
+    @Extension
+    public static class DescriptorImpl extends BranchBuildStrategyDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public String getDisplayName() {
+            return Messages.BuildBudgetBuildStrategyImpl_displayName();
+        }
+
+        /**
+         * Form validation for the number of builds.
+         *
+         * @param value the number of builds.
+         * @return the validation results.
+         */
+        @Restricted(NoExternalUse.class) // stapler
+        public FormValidation doCheckMaxBuilds(@QueryParameter String value) {
+            return FormValidation.validateNonNegativeInteger(value);
+        }
+    }
+}
@@ -26,39 +26,79 @@ package jenkins.branch.buildstrategies.basic;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.Extension;
-import hudson.Functions;
+import hudson.Util;
+import hudson.model.Job;
+import hudson.model.Queue;
+import hudson.model.Run;
 import hudson.model.TaskListener;
+import hudson.model.queue.QueueListener;
 import hudson.util.LogTaskListener;
 import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
-import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import jenkins.branch.BranchBuildStrategy;
 import jenkins.branch.BranchBuildStrategyDescriptor;
+import jenkins.branch.MultiBranchProject;
+import jenkins.branch.buildstrategies.basic.NamedBranchBuildStrategyImpl.NameFilter;
 import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMHeadOrigin;
 import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMRevisionAction;
 import jenkins.scm.api.SCMSource;
+import jenkins.scm.api.mixin.ChangeRequestCheckoutStrategy;
 import jenkins.scm.api.mixin.ChangeRequestSCMHead;
+import jenkins.scm.api.mixin.ChangeRequestSCMHead2;
 import jenkins.scm.api.mixin.ChangeRequestSCMRevision;
 import org.jenkinsci.Symbol;
 import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.accmod.restrictions.ProtectedExternally;
 import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
 
 /**
  * A {@link BranchBuildStrategy} that builds change requests.
  *
  * @since 1.0.0
  */
-public class ChangeRequestBuildStrategyImpl extends BranchBuildStrategy {
+public class ChangeRequestBuildStrategyImpl extends BranchBuildStrategy implements NameFilterContainer {
 
     /**
      * Our logger.
      */
     private static final Logger LOGGER = Logger.getLogger(ChangeRequestBuildStrategyImpl.class.getName());
 
+    /**
+     * The number of change requests for which the time a build was last scheduled is remembered.
+     */
+    private static final int MAX_TRIGGERED = 10000;
+
+    /**
+     * The time a build was last scheduled, by source ID and change request name, for change requests whose builds
+     * have not started yet or whose project cannot be found. It is fed from the queue rather than from this strategy,
+     * as a build this strategy allows can still be declined by an enclosing strategy.
+     */
+    private static final ConcurrentMap<String, Long> TRIGGERED = new ConcurrentHashMap<>();
+
     private final boolean ignoreTargetOnlyChanges;
     private final boolean ignoreUntrustedChanges;
+    private int rebuildTargetOnlyChangesAfterMinutes;
+
+    /**
+     * The filters the name of the target branch must match, if any.
+     */
+    @NonNull
+    private List<NameFilter> targetFilters = new ArrayList<>();
+
+    private boolean ignoreOriginBranchDuplicates;
 
     /**
      * Our constructor.
@@ -87,6 +127,18 @@ public class ChangeRequestBuildStrategyImpl extends BranchBuildStrategy {
         this.ignoreUntrustedChanges = ignoreUntrustedChanges;
     }
 
+    /**
+     * Fills in the fields added since the configuration was saved.
+     *
+     * @return the instance to use.
+     */
+    protected Object readResolve() {
+        if (targetFilters == null) {
+            targetFilters = new ArrayList<>();
+        }
+        return this;
+    }
+
     public boolean isIgnoreTargetOnlyChanges() {
         return ignoreTargetOnlyChanges;
     }
@@ -95,6 +147,61 @@ public class ChangeRequestBuildStrategyImpl extends BranchBuildStrategy {
         return ignoreUntrustedChanges;
     }
 
+    public int getRebuildTargetOnlyChangesAfterMinutes() {
+        return rebuildTargetOnlyChangesAfterMinutes;
+    }
+
+    /**
+     * Sets the age in minutes of the last build of a change request after which a target branch only change is built
+     * anyway when ignoring target branch only changes.
+     *
+     * @param rebuildTargetOnlyChangesAfterMinutes the age in minutes, or {@code 0} to never build target branch only
+     *         changes.
+     */
+    @DataBoundSetter
+    public void setRebuildTargetOnlyChangesAfterMinutes(int rebuildTargetOnlyChangesAfterMinutes) {
+        this.rebuildTargetOnlyChangesAfterMinutes = Math.max(0, rebuildTargetOnlyChangesAfterMinutes);
+    }
+
+    @NonNull
+    public List<NameFilter> getTargetFilters() {
+        return Collections.unmodifiableList(targetFilters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Restricted(NoExternalUse.class)
+    public void collectNameFilters(@NonNull Set<NameFilter> filters) {
+        filters.addAll(targetFilters);
+    }
+
+    /**
+     * Sets the filters the name of the target branch must match.
+     *
+     * @param targetFilters the filters, empty to build change requests for any target branch.
+     */
+    @DataBoundSetter
+    public void setTargetFilters(@CheckForNull List<NameFilter> targetFilters) {
+        this.targetFilters = new ArrayList<>(Util.fixNull(targetFilters));
+    }
+
+    public boolean isIgnoreOriginBranchDuplicates() {
+        return ignoreOriginBranchDuplicates;
+    }
+
+    /**
+     * Sets whether to ignore change requests that check out a branch of the same repository when that branch is
+     * already scheduled or built at the same revision.
+     *
+     * @param ignoreOriginBranchDuplicates {@code true} to ignore such change requests.
+     */
+    @DataBoundSetter
+    public void setIgnoreOriginBranchDuplicates(boolean ignoreOriginBranchDuplicates) {
+        this.ignoreOriginBranchDuplicates = ignoreOriginBranchDuplicates;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -140,31 +247,123 @@ public class ChangeRequestBuildStrategyImpl extends BranchBuildStrategy {
             @CheckForNull SCMRevision lastBuiltRevision,
             @CheckForNull SCMRevision lastSeenRevision,
             @NonNull TaskListener listener) {
-        if (!(head instanceof ChangeRequestSCMHead)) {
+        if (!(head instanceof ChangeRequestSCMHead changeRequest)) {
+            return false;
+        }
+        if (!targetFilters.isEmpty() && !isTargetMatch(changeRequest.getTarget().getName(), listener)) {
+            return false;
+        }
+        if (ignoreOriginBranchDuplicates && isOriginBranchDuplicate(source, changeRequest, currRevision, listener)) {
             return false;
         }
         if (ignoreTargetOnlyChanges
                 && currRevision instanceof ChangeRequestSCMRevision<?> curr
                 && lastBuiltRevision instanceof ChangeRequestSCMRevision<?> revision) {
-            if (curr.isMerge() && curr.equivalent(revision)) {
+            if (curr.isMerge() && curr.equivalent(revision) && !isStale(source, head)) {
                 return false;
             }
         }
         try {
-            if (ignoreUntrustedChanges && !currRevision.equals(source.getTrustedRevision(currRevision, listener))) {
+            if (ignoreUntrustedChanges
+                    && !currRevision.equals(TrustedRevisionLookup.getTrustedRevision(source, currRevision, listener))) {
                 return false;
             }
         } catch (IOException | InterruptedException e) {
-            LogRecord lr = new LogRecord(
-                    Level.WARNING, "Could not determine trust status for revision {0} of {1}, assuming untrusted");
-            lr.setParameters(new Object[] {currRevision, head});
-            lr.setThrown(e);
-            Functions.printLogRecord(lr);
+            String message = MessageFormat.format(
+                    "Could not determine trust status for revision {0} of {1}, assuming untrusted", currRevision, head);
+            // the scan log gets a single line, the stack trace is only of interest when diagnosing the source
+            listener.getLogger().println(message + ": " + e.getMessage());
+            LOGGER.log(Level.FINE, message, e);
             return false;
         }
         return true;
     }
 
+    /**
+     * Checks if the name of the target branch matches any of the target filters.
+     *
+     * @param target   the name of the target branch.
+     * @param listener the listener.
+     * @return {@code true} if the name matches.
+     */
+    private boolean isTargetMatch(@NonNull String target, @NonNull TaskListener listener) {
+        for (NameFilter filter : targetFilters) {
+            if (filter.isMatch(target, listener)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the change request checks out a branch of the same repository which is already scheduled or built
+     * at the same revision.
+     *
+     * @param source        the source.
+     * @param changeRequest the change request.
+     * @param currRevision  the revision of the change request.
+     * @param listener      the listener to report a duplicate to.
+     * @return {@code true} if building the change request would build the same revision again.
+     */
+    private static boolean isOriginBranchDuplicate(
+            @NonNull SCMSource source,
+            @NonNull ChangeRequestSCMHead changeRequest,
+            @NonNull SCMRevision currRevision,
+            @NonNull TaskListener listener) {
+        if (!(changeRequest instanceof ChangeRequestSCMHead2 head)
+                || !SCMHeadOrigin.DEFAULT.equals(head.getOrigin())
+                || head.getCheckoutStrategy() != ChangeRequestCheckoutStrategy.HEAD
+                || !BranchRevisionIndex.contains(source.getId(), head.getOriginName(), currRevision.toString())) {
+            return false;
+        }
+        listener.getLogger()
+                .format(
+                        "Not building %s as branch %s is already built at revision %s%n",
+                        head.getName(), head.getOriginName(), currRevision);
+        return true;
+    }
+
+    /**
+     * Checks if the last build of the change request is old enough for a target branch only change to be built.
+     *
+     * @param source the source.
+     * @param head   the change request.
+     * @return {@code true} if the change should be built.
+     */
+    private boolean isStale(@NonNull SCMSource source, @NonNull SCMHead head) {
+        if (rebuildTargetOnlyChangesAfterMinutes <= 0) {
+            return false;
+        }
+        long lastBuild = TRIGGERED.getOrDefault(triggeredKey(source.getId(), head.getName()), 0L);
+        if (source.getOwner() instanceof MultiBranchProject<?, ?> project) {
+            Job<?, ?> job = project.getItemByBranchName(head.getName());
+            Run<?, ?> run = job == null ? null : job.getLastBuild();
+            if (run != null) {
+                lastBuild = Math.max(lastBuild, run.getStartTimeInMillis());
+            }
+        }
+        return System.currentTimeMillis() - lastBuild
+                >= TimeUnit.MINUTES.toMillis(rebuildTargetOnlyChangesAfterMinutes);
+    }
+
+    /**
+     * Records that a build of the change request was scheduled.
+     *
+     * @param sourceId the source ID.
+     * @param name     the change request name.
+     * @param time     the time the build was scheduled.
+     */
+    static void triggered(@NonNull String sourceId, @NonNull String name, long time) {
+        if (TRIGGERED.size() >= MAX_TRIGGERED) {
+            TRIGGERED.clear();
+        }
+        TRIGGERED.merge(triggeredKey(sourceId, name), time, Math::max);
+    }
+
+    private static String triggeredKey(@NonNull String sourceId, @NonNull String name) {
+        return sourceId + "::" + name;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -180,7 +379,10 @@ public class ChangeRequestBuildStrategyImpl extends BranchBuildStrategy {
         ChangeRequestBuildStrategyImpl that = (ChangeRequestBuildStrategyImpl) o;
 
         return ignoreUntrustedChanges == that.ignoreUntrustedChanges
-                && ignoreTargetOnlyChanges == that.ignoreTargetOnlyChanges;
+                && ignoreTargetOnlyChanges == that.ignoreTargetOnlyChanges
+                && rebuildTargetOnlyChangesAfterMinutes == that.rebuildTargetOnlyChangesAfterMinutes
+                && targetFilters.equals(that.targetFilters)
+                && ignoreOriginBranchDuplicates == that.ignoreOriginBranchDuplicates;
     }
 
     /**
@@ -188,7 +390,11 @@ public class ChangeRequestBuildStrategyImpl extends BranchBuildStrategy {
      */
     @Override
     public int hashCode() {
-        return (ignoreTargetOnlyChanges ? 1 : 0) + (ignoreUntrustedChanges ? 2 : 0);
+        int result = (ignoreTargetOnlyChanges ? 1 : 0)
+                + (ignoreUntrustedChanges ? 2 : 0)
+                + 4 * rebuildTargetOnlyChangesAfterMinutes;
+        result = 31 * result + targetFilters.hashCode();
+        return 31 * result + (ignoreOriginBranchDuplicates ? 1 : 0);
     }
 
     /**
@@ -198,7 +404,10 @@ public class ChangeRequestBuildStrategyImpl extends BranchBuildStrategy {
     public String toString() {
         return "ChangeRequestBuildStrategyImpl{" + "ignoreTargetOnlyChanges="
                 + ignoreTargetOnlyChanges + "ignoreUntrustedChanges="
-                + ignoreUntrustedChanges + '}';
+                + ignoreUntrustedChanges + ", rebuildTargetOnlyChangesAfterMinutes="
+                + rebuildTargetOnlyChangesAfterMinutes + ", targetFilters="
+                + targetFilters + ", ignoreOriginBranchDuplicates="
+                + ignoreOriginBranchDuplicates + '}';
     }
 
     /**
@@ -216,4 +425,24 @@ public class ChangeRequestBuildStrategyImpl extends BranchBuildStrategy {
             return Messages.ChangeRequestBuildStrategyImpl_displayName();
         }
     }
+
+    /**
+     * Records when change request builds are scheduled.
+     */
+    @Restricted(NoExternalUse.class)
+    @Extension
+    public static class QueueListenerImpl extends QueueListener {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onEnterWaiting(Queue.WaitingItem wi) {
+            SCMRevisionAction action = wi.getAction(SCMRevisionAction.class);
+            if (action != null
+                    && action.getSourceId() != null
+                    && action.getRevision().getHead() instanceof ChangeRequestSCMHead) {
+                triggered(action.getSourceId(), action.getRevision().getHead().getName(), wi.getInQueueSince());
+            }
+        }
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import jenkins.util.SystemProperties;
+
+/**
+ * Shares the compiled matchers of equal filters. Organization folders copy their build strategies into every
+ * multibranch project they create, so the same pattern is typically configured hundreds or thousands of times, and
+ * with this cache it is compiled once per controller start rather than once per project.
+ */
+final class CompiledMatchers {
+
+    /**
+     * The maximum number of compiled matchers to keep. The cache is cleared when this is exceeded, the filters keep
+     * the matchers they already hold.
+     */
+    private static final int MAX_SIZE =
+            SystemProperties.getInteger(CompiledMatchers.class.getName() + ".maxSize", 10000);
+
+    /**
+     * The compiled matchers.
+     */
+    private static final ConcurrentMap<Key, Object> CACHE = new ConcurrentHashMap<>();
+
+    private CompiledMatchers() {}
+
+    /**
+     * Returns the compiled regular expression.
+     *
+     * @param regex         the regular expression.
+     * @param caseSensitive {@code true} to match case sensitively.
+     * @return the compiled regular expression.
+     */
+    @NonNull
+    static Pattern pattern(@NonNull String regex, boolean caseSensitive) {
+        return get(
+                Pattern.class,
+                regex,
+                caseSensitive,
+                r -> Pattern.compile(r, caseSensitive ? 0 : Pattern.CASE_INSENSITIVE));
+    }
+
+    /**
+     * Returns the compiled matcher, compiling it if no equal matcher has been compiled yet.
+     *
+     * @param type          the type of matcher.
+     * @param spec          the text the matcher is compiled from.
+     * @param caseSensitive {@code true} to match case sensitively.
+     * @param compiler      compiles the matcher from the text.
+     * @param <T>           the type of matcher, which must be immutable and thread safe.
+     * @return the compiled matcher.
+     */
+    @NonNull
+    static <T> T get(
+            @NonNull Class<T> type,
+            @NonNull String spec,
+            boolean caseSensitive,
+            @NonNull Function<String, ? extends T> compiler) {
+        Key key = new Key(type, spec, caseSensitive);
+        Object matcher = CACHE.get(key);
+        if (matcher == null) {
+            if (CACHE.size() >= MAX_SIZE) {
+                CACHE.clear();
+            }
+            matcher = CACHE.computeIfAbsent(key, k -> compiler.apply(k.spec()));
+        }
+        return type.cast(matcher);
+    }
+
+    /**
+     * The cache key.
+     *
+     * @param type          the type of matcher.
+     * @param spec          the text the matcher is compiled from.
+     * @param caseSensitive {@code true} to match case sensitively.
+     */
+    private record Key(Class<?> type, String spec, boolean caseSensitive) {}
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Queue;
+import java.util.concurrent.TimeUnit;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+
+/**
+ * A periodically refreshed snapshot of the length of the build queue and the number of idle executors, for
+ * {@link AdmissionControlBuildStrategyImpl}. Indexing an organization folder can ask about tens of thousands of heads
+ * in a few minutes, so the queue and executors are only looked at when the snapshot is {@link #MAX_AGE_MILLIS} old
+ * rather than for every head.
+ */
+final class ControllerLoad {
+
+    /**
+     * How long a snapshot is reused before the queue and executors are looked at again.
+     */
+    static final long MAX_AGE_MILLIS =
+            SystemProperties.getLong(ControllerLoad.class.getName() + ".maxAgeMillis", 5000L);
+
+    /**
+     * Guards taking a new snapshot so that concurrent questions only take it once.
+     */
+    private static final Object LOCK = new Object();
+
+    /**
+     * The current snapshot.
+     */
+    @CheckForNull
+    private static volatile ControllerLoad current;
+
+    private final long takenNanos;
+    private final int queueLength;
+    private final int idleExecutors;
+
+    private ControllerLoad(long takenNanos, int queueLength, int idleExecutors) {
+        this.takenNanos = takenNanos;
+        this.queueLength = queueLength;
+        this.idleExecutors = idleExecutors;
+    }
+
+    /**
+     * Returns a recent snapshot, taking a new one if the current one is too old.
+     *
+     * @return the snapshot.
+     */
+    @NonNull
+    static ControllerLoad get() {
+        ControllerLoad load = current;
+        if (load == null || System.nanoTime() - load.takenNanos >= TimeUnit.MILLISECONDS.toNanos(MAX_AGE_MILLIS)) {
+            synchronized (LOCK) {
+                load = current;
+                if (load == null
+                        || System.nanoTime() - load.takenNanos >= TimeUnit.MILLISECONDS.toNanos(MAX_AGE_MILLIS)) {
+                    load = refresh();
+                }
+            }
+        }
+        return load;
+    }
+
+    /**
+     * Takes a new snapshot.
+     *
+     * @return the snapshot.
+     */
+    @NonNull
+    static ControllerLoad refresh() {
+        ControllerLoad load = new ControllerLoad(
+                System.nanoTime(),
+                Queue.getInstance().getApproximateItemsQuickly().size(),
+                Jenkins.get().overallLoad.computeIdleExecutors());
+        current = load;
+        return load;
+    }
+
+    /**
+     * Returns the number of items in the build queue.
+     *
+     * @return the number of items in the build queue.
+     */
+    int getQueueLength() {
+        return queueLength;
+    }
+
+    /**
+     * Returns the number of idle executors.
+     *
+     * @return the number of idle executors.
+     */
+    int getIdleExecutors() {
+        return idleExecutors;
+    }
+
+    /**
+     * Returns the number of items in the build queue that cannot start on an idle executor.
+     *
+     * @return the number of items that will have to wait for an executor.
+     */
+    int getBacklog() {
+        return Math.max(0, queueLength - idleExecutors);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.TaskListener;
+import hudson.util.FormValidation;
+import hudson.util.LogTaskListener;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.branch.BranchBuildStrategy;
+import jenkins.branch.BranchBuildStrategyDescriptor;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMSource;
+import org.jenkinsci.Symbol;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+
+/**
+ * A {@link BranchBuildStrategy} that allows at most one automatic build of each head within a configurable number of
+ * minutes, for heads that receive commits all day such as those updated by bots. A build is counted when it enters
+ * the build queue, so it can be combined with other strategies through {@link AllBranchBuildStrategyImpl} in any
+ * order.
+ */
+public class CooldownBuildStrategyImpl extends BranchBuildStrategy {
+
+    private final int intervalMinutes;
+
+    /**
+     * Our constructor.
+     *
+     * @param intervalMinutes the number of minutes after an automatic build of a head during which the head is not
+     *                        built automatically again, {@code 0} to always build.
+     */
+    @DataBoundConstructor
+    public CooldownBuildStrategyImpl(int intervalMinutes) {
+        this.intervalMinutes = Math.max(0, intervalMinutes);
+    }
+
+    public int getIntervalMinutes() {
+        return intervalMinutes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision) {
+        return isAutomaticBuild(
+                source,
+                head,
+                currRevision,
+                prevRevision,
+                new LogTaskListener(Logger.getLogger(getClass().getName()), Level.INFO));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision,
+            @NonNull TaskListener taskListener) {
+        return isAutomaticBuild(source, head, currRevision, prevRevision, prevRevision, taskListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision lastBuiltRevision,
+            @CheckForNull SCMRevision lastSeenRevision,
+            @NonNull TaskListener listener) {
+        if (intervalMinutes == 0) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        long interval = TimeUnit.MINUTES.toMillis(intervalMinutes);
+        HeadCooldownTable.optIn(source.getId());
+        long lastScheduled = HeadCooldownTable.lastScheduled(source.getId(), head.getName(), interval, now);
+        if (lastScheduled == Long.MIN_VALUE) {
+            return true;
+        }
+        long age = Math.max(0L, now - lastScheduled);
+        listener.getLogger()
+                .format(
+                        "Not building %s at %s as it was built automatically %s ago, next build allowed in %s%n",
+                        head.getName(),
+                        currRevision,
+                        Util.getTimeSpanString(age),
+                        Util.getTimeSpanString(Math.max(0L, interval - age)));
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        CooldownBuildStrategyImpl that = (CooldownBuildStrategyImpl) o;
+
+        return intervalMinutes == that.intervalMinutes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return intervalMinutes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "CooldownBuildStrategyImpl{" + "intervalMinutes=" + intervalMinutes + '}';
+    }
+
+    /**
+     * Our descriptor.
+     */
+    @Symbol("buildCooldown")
+    @Extension
+    public static class DescriptorImpl extends BranchBuildStrategyDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public String getDisplayName() {
+            return Messages.CooldownBuildStrategyImpl_displayName();
+        }
+
+        /**
+         * Form validation for the number of minutes.
+         *
+         * @param value the number of minutes.
+         * @return the validation results.
+         */
+        @Restricted(NoExternalUse.class) // stapler
+        public FormValidation doCheckIntervalMinutes(@QueryParameter String value) {
+            return FormValidation.validateNonNegativeInteger(value);
+        }
+    }
+}
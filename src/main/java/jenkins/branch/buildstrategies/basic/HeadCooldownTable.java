@@ -0,0 +1,193 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.Item;
+import hudson.model.Job;
+import hudson.model.Queue;
+import hudson.model.listeners.ItemListener;
+import hudson.model.queue.QueueListener;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import jenkins.branch.Branch;
+import jenkins.branch.BranchJobProperty;
+import jenkins.branch.MultiBranchProject;
+import jenkins.scm.api.SCMRevisionAction;
+import jenkins.util.SystemProperties;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Remembers when an automatic build of each head was last scheduled, by source ID and head name, so that
+ * {@link CooldownBuildStrategyImpl} can allow at most one build per interval. Builds are recorded when they enter the
+ * build queue, so strategies combined with the cooldown that decline a build do not start its interval, and only for
+ * the sources whose strategies opted in. Heads are forgotten when their job is deleted. The table is kept in memory
+ * only and starts empty after a restart.
+ */
+@Restricted(NoExternalUse.class)
+public final class HeadCooldownTable {
+
+    /**
+     * The number of heads above which heads whose interval has elapsed are pruned.
+     */
+    private static final int MAX_SIZE =
+            SystemProperties.getInteger(HeadCooldownTable.class.getName() + ".maxSize", 100000);
+
+    /**
+     * When a build of each head was last scheduled, by source ID and head name.
+     */
+    private static final ConcurrentMap<String, Long> LAST_SCHEDULED = new ConcurrentHashMap<>();
+
+    /**
+     * The ids of the sources whose scheduled builds are recorded.
+     */
+    private static final Set<String> SOURCES = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The longest interval checked with, entries older than this cannot hold back any build.
+     */
+    private static final AtomicLong LONGEST_INTERVAL = new AtomicLong();
+
+    private HeadCooldownTable() {}
+
+    /**
+     * Records the scheduled builds of the source from now on.
+     *
+     * @param sourceId the id of the source.
+     */
+    static void optIn(@NonNull String sourceId) {
+        SOURCES.add(sourceId);
+    }
+
+    /**
+     * Checks if the scheduled builds of the source are recorded.
+     *
+     * @param sourceId the id of the source.
+     * @return {@code true} if a strategy of the source has opted in.
+     */
+    static boolean isOptedIn(@CheckForNull String sourceId) {
+        return sourceId != null && SOURCES.contains(sourceId);
+    }
+
+    /**
+     * Returns when a build of the head was last scheduled if that is within the interval.
+     *
+     * @param sourceId       the source ID.
+     * @param head           the head name.
+     * @param intervalMillis the interval in milliseconds.
+     * @param now            the current time in milliseconds.
+     * @return {@link Long#MIN_VALUE} if no build was scheduled within the interval, otherwise when the head was last
+     *         scheduled a build.
+     */
+    static long lastScheduled(@NonNull String sourceId, @NonNull String head, long intervalMillis, long now) {
+        LONGEST_INTERVAL.accumulateAndGet(intervalMillis, Math::max);
+        Long last = LAST_SCHEDULED.get(key(sourceId, head));
+        return last != null && now - last < intervalMillis ? last : Long.MIN_VALUE;
+    }
+
+    /**
+     * Records that a build of the head was scheduled.
+     *
+     * @param sourceId the source ID.
+     * @param head     the head name.
+     * @param time     when the build was scheduled in milliseconds.
+     */
+    static void scheduled(@NonNull String sourceId, @NonNull String head, long time) {
+        if (LAST_SCHEDULED.size() >= MAX_SIZE) {
+            prune(time);
+        }
+        LAST_SCHEDULED.merge(key(sourceId, head), time, Math::max);
+    }
+
+    /**
+     * Forgets the head.
+     *
+     * @param sourceId the source ID.
+     * @param head     the head name.
+     */
+    static void forget(@NonNull String sourceId, @NonNull String head) {
+        LAST_SCHEDULED.remove(key(sourceId, head));
+    }
+
+    /**
+     * Removes the heads whose longest interval has elapsed, or all heads if that is not enough.
+     *
+     * @param now the current time in milliseconds.
+     */
+    private static void prune(long now) {
+        long longest = LONGEST_INTERVAL.get();
+        LAST_SCHEDULED.values().removeIf(last -> now - last >= longest);
+        if (LAST_SCHEDULED.size() >= MAX_SIZE) {
+            LAST_SCHEDULED.clear();
+        }
+    }
+
+    private static String key(String sourceId, String head) {
+        return sourceId + "::" + head;
+    }
+
+    /**
+     * Records when builds of the sources that opted in are scheduled.
+     */
+    @Restricted(NoExternalUse.class)
+    @Extension
+    public static class QueueListenerImpl extends QueueListener {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onEnterWaiting(Queue.WaitingItem wi) {
+            SCMRevisionAction action = wi.getAction(SCMRevisionAction.class);
+            if (action != null && isOptedIn(action.getSourceId())) {
+                scheduled(action.getSourceId(), action.getRevision().getHead().getName(), wi.getInQueueSince());
+            }
+        }
+    }
+
+    /**
+     * Forgets the heads whose branch job is deleted, such as when the branch is removed from the source.
+     */
+    @Restricted(NoExternalUse.class)
+    @Extension
+    public static class ItemListenerImpl extends ItemListener {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onDeleted(Item item) {
+            if (item instanceof Job<?, ?> job && job.getParent() instanceof MultiBranchProject) {
+                BranchJobProperty property = job.getProperty(BranchJobProperty.class);
+                if (property != null) {
+                    Branch branch = property.getBranch();
+                    forget(branch.getSourceId(), branch.getHead().getName());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.ref.WeakReference;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import jenkins.util.SystemProperties;
+
+/**
+ * Counts the builds each project has been allowed in its current indexing pass, for
+ * {@link BuildBudgetBuildStrategyImpl}. Branch indexing asks the strategy about one head at a time without saying when
+ * a pass starts, so each question names the indexing run it belongs to and a pass ends when a question names another
+ * run. The heads turned down in a pass are offered again in the next one, so the recency of the heads turned down is
+ * kept and the next pass only allows heads at least as recent as the newest of them that fit in the budget, which
+ * builds the most recently updated heads first.
+ */
+final class IndexingPassBudget {
+
+    /**
+     * The maximum number of projects to keep budgets for, all budgets are dropped when this is exceeded.
+     */
+    private static final int MAX_PROJECTS =
+            SystemProperties.getInteger(IndexingPassBudget.class.getName() + ".maxProjects", 10000);
+
+    /**
+     * The budgets by project full name.
+     */
+    private static final ConcurrentMap<String, IndexingPassBudget> BUDGETS = new ConcurrentHashMap<>();
+
+    /**
+     * The indexing run of the current pass, held weakly as it is only compared with the run of the next question.
+     */
+    private WeakReference<Object> pass = new WeakReference<>(null);
+
+    /**
+     * The number of builds allowed in the current pass.
+     */
+    private int allowed;
+
+    /**
+     * The oldest recency a head needs to be built in the current pass.
+     */
+    private long threshold = Long.MIN_VALUE;
+
+    /**
+     * The newest recencies of the heads turned down in the current pass, at most as many as the budget.
+     */
+    private final PriorityQueue<Long> turnedDown = new PriorityQueue<>();
+
+    private IndexingPassBudget() {}
+
+    /**
+     * Asks for a build of a head in the current indexing pass of a project.
+     *
+     * @param project the project full name.
+     * @param run     the indexing run asking, such as the branch indexing of the project.
+     * @param recency when the head was last updated, in milliseconds.
+     * @param budget  the maximum number of builds per pass.
+     * @return whether the build is allowed.
+     */
+    @NonNull
+    static Admission admit(@NonNull String project, @NonNull Object run, long recency, int budget) {
+        IndexingPassBudget passBudget = BUDGETS.get(project);
+        if (passBudget == null) {
+            if (BUDGETS.size() >= MAX_PROJECTS) {
+                BUDGETS.clear();
+            }
+            passBudget = BUDGETS.computeIfAbsent(project, p -> new IndexingPassBudget());
+        }
+        return passBudget.admit(run, recency, budget);
+    }
+
+    private synchronized Admission admit(Object run, long recency, int budget) {
+        if (pass.get() != run) {
+            threshold = turnedDown.size() >= budget ? turnedDown.peek() : Long.MIN_VALUE;
+            turnedDown.clear();
+            allowed = 0;
+            pass = new WeakReference<>(run);
+        }
+        Admission admission;
+        if (allowed >= budget) {
+            admission = Admission.BUDGET_SPENT;
+        } else if (recency < threshold) {
+            admission = Admission.NEWER_WAITING;
+        } else {
+            allowed++;
+            return Admission.ALLOWED;
+        }
+        if (turnedDown.size() < budget) {
+            turnedDown.add(recency);
+        } else if (budget > 0 && turnedDown.peek() < recency) {
+            turnedDown.poll();
+            turnedDown.add(recency);
+        }
+        return admission;
+    }
+
+    /**
+     * The answer to a request for a build.
+     */
+    enum Admission {
+        /**
+         * The build is allowed.
+         */
+        ALLOWED,
+        /**
+         * The budget of the pass has been spent.
+         */
+        BUDGET_SPENT,
+        /**
+         * More recently updated heads turned down in the previous pass are waiting to be built.
+         */
+        NEWER_WAITING
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link CharSequence} that aborts regular expression matching once a deadline has passed or the current thread has
+ * been interrupted. {@link java.util.regex.Matcher} reads its input through {@link #charAt(int)}, so checking there
+ * bounds even a catastrophically backtracking match.
+ */
+final class InterruptibleCharSequence implements CharSequence {
+
+    /**
+     * How many character reads between checks of the clock, as {@link System#nanoTime()} is not free.
+     */
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final CharSequence delegate;
+    private final long deadlineNanos;
+    private int countdown = CHECK_INTERVAL;
+
+    private InterruptibleCharSequence(@NonNull CharSequence delegate, long deadlineNanos) {
+        this.delegate = delegate;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Wraps the supplied characters.
+     *
+     * @param delegate      the characters.
+     * @param timeoutMillis the time budget, starting now.
+     * @return the wrapped characters.
+     */
+    @NonNull
+    static InterruptibleCharSequence of(@NonNull CharSequence delegate, long timeoutMillis) {
+        return new InterruptibleCharSequence(
+                delegate, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (--countdown <= 0) {
+            countdown = CHECK_INTERVAL;
+            if (Thread.currentThread().isInterrupted()) {
+                throw new MatchAbortedException(true);
+            }
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new MatchAbortedException(false);
+            }
+        }
+        return delegate.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return delegate.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new InterruptibleCharSequence(delegate.subSequence(start, end), deadlineNanos);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    /**
+     * Thrown out of the regular expression engine when matching is aborted.
+     */
+    static final class MatchAbortedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final boolean interrupted;
+
+        MatchAbortedException(boolean interrupted) {
+            super(interrupted ? "Interrupted" : "Time budget exceeded", null, false, false);
+            this.interrupted = interrupted;
+        }
+
+        /**
+         * Returns {@code true} if matching was aborted because the thread was interrupted.
+         *
+         * @return {@code true} if matching was aborted because the thread was interrupted, {@code false} if the time
+         *     budget was exceeded.
+         */
+        boolean isInterrupted() {
+            return interrupted;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.TaskListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jenkins.branch.buildstrategies.basic.NamedBranchBuildStrategyImpl.NameFilter;
+import jenkins.util.SystemProperties;
+
+/**
+ * Evaluates a list of {@link NameFilter} instances against a large list of names, so that the filters can be tuned
+ * without waiting for a branch indexing.
+ */
+final class NameFilterPreview {
+
+    /**
+     * The time limit for evaluating all the names, after which the names evaluated so far are reported.
+     */
+    static final long TIMEOUT_MILLIS =
+            SystemProperties.getLong(NameFilterPreview.class.getName() + ".timeoutMillis", 10000L);
+
+    /**
+     * The time budget for matching a single name, lower than the one used for branch indexing so that a backtracking
+     * regular expression does not use up the whole time limit on a handful of names.
+     */
+    static final long MATCH_TIMEOUT_MILLIS =
+            SystemProperties.getLong(NameFilterPreview.class.getName() + ".matchTimeoutMillis", 100L);
+
+    /**
+     * The number of consecutive names claimed at once by a worker, so that the names evaluated before the time limit
+     * are, but for the last few chunks, the first names of the list.
+     */
+    private static final int CHUNK_SIZE = 256;
+
+    private static final byte UNEVALUATED = 0;
+    private static final byte MATCHED = 1;
+    private static final byte UNMATCHED = 2;
+
+    /**
+     * The pool used to evaluate the names, shared by all previews so that concurrent previews cannot use more than
+     * one thread per processor. Idle workers are retired by the pool.
+     */
+    private static final ForkJoinPool POOL =
+            new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors()));
+
+    private NameFilterPreview() {}
+
+    /**
+     * Evaluates the filters against the names within the default time limits.
+     *
+     * @param filters    the filters.
+     * @param names      the names.
+     * @param sampleSize the maximum number of matching and of non-matching names to return.
+     * @return the results.
+     * @see #evaluate(List, List, int, long, long)
+     */
+    @NonNull
+    static Result evaluate(@NonNull List<NameFilter> filters, @NonNull List<String> names, int sampleSize) {
+        return evaluate(filters, names, sampleSize, TIMEOUT_MILLIS, MATCH_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Evaluates the filters against the names, with the same semantics as
+     * {@link NamedBranchBuildStrategyImpl#isAutomaticBuild}: a name matches if any of the filters matches it. If the
+     * time limit is reached, the results only cover the names up to the first one that could not be evaluated.
+     *
+     * @param filters            the filters.
+     * @param names              the names.
+     * @param sampleSize         the maximum number of matching and of non-matching names to return.
+     * @param timeoutMillis      the time limit for evaluating all the names.
+     * @param matchTimeoutMillis the time budget for matching a single name.
+     * @return the results.
+     */
+    @NonNull
+    static Result evaluate(
+            @NonNull List<NameFilter> filters,
+            @NonNull List<String> names,
+            int sampleSize,
+            long timeoutMillis,
+            long matchTimeoutMillis) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        byte[] matches = new byte[names.size()];
+        AtomicInteger nextChunk = new AtomicInteger();
+        int workers = Math.min(POOL.getParallelism(), (matches.length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(POOL.submit(() -> evaluate(filters, names, matches, nextChunk, deadline, matchTimeoutMillis)));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+        int matched = 0;
+        int unmatched = 0;
+        List<String> matchedSample = new ArrayList<>();
+        List<String> unmatchedSample = new ArrayList<>();
+        for (int i = 0; i < matches.length && matches[i] != UNEVALUATED; i++) {
+            List<String> sample;
+            if (matches[i] == MATCHED) {
+                matched++;
+                sample = matchedSample;
+            } else {
+                unmatched++;
+                sample = unmatchedSample;
+            }
+            if (sample.size() < sampleSize) {
+                sample.add(names.get(i));
+            }
+        }
+        return new Result(
+                matched,
+                unmatched,
+                Collections.unmodifiableList(matchedSample),
+                Collections.unmodifiableList(unmatchedSample),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                matched + unmatched < matches.length);
+    }
+
+    /**
+     * The results of evaluating a list of names.
+     *
+     * @param matched         the number of names that matched.
+     * @param unmatched       the number of names that did not match.
+     * @param matchedSample   the first matching names, in input order.
+     * @param unmatchedSample the first non-matching names, in input order.
+     * @param elapsedMillis   the time taken to evaluate the names.
+     * @param stopped         {@code true} if the time limit was reached, in which case only the first
+     *                        {@code matched + unmatched} names were evaluated.
+     */
+    record Result(
+            int matched,
+            int unmatched,
+            @NonNull List<String> matchedSample,
+            @NonNull List<String> unmatchedSample,
+            long elapsedMillis,
+            boolean stopped) {}
+
+    /**
+     * Claims chunks of names and evaluates them until all the names have been claimed or the deadline has passed.
+     */
+    private static void evaluate(
+            List<NameFilter> filters,
+            List<String> names,
+            byte[] matches,
+            AtomicInteger nextChunk,
+            long deadline,
+            long matchTimeoutMillis) {
+        long from;
+        while ((from = (long) nextChunk.getAndIncrement() * CHUNK_SIZE) < matches.length) {
+            int to = (int) Math.min(from + CHUNK_SIZE, matches.length);
+            for (int i = (int) from; i < to; i++) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return;
+                }
+                boolean match = isMatch(filters, names.get(i), Math.min(matchTimeoutMillis, remaining));
+                if (!match && deadline - System.nanoTime() <= 0) {
+                    // the match may have been cut short by the time limit rather than by its own budget
+                    return;
+                }
+                matches[i] = match ? MATCHED : UNMATCHED;
+            }
+        }
+    }
+
+    private static boolean isMatch(List<NameFilter> filters, String name, long timeoutMillis) {
+        for (NameFilter filter : filters) {
+            if (filter.isMatch(name, TaskListener.NULL, timeoutMillis)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
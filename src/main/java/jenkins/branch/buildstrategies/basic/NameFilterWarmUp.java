@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.branch.BranchBuildStrategy;
+import jenkins.branch.BranchSource;
+import jenkins.branch.MultiBranchProject;
+import jenkins.branch.OrganizationFolder;
+import jenkins.branch.buildstrategies.basic.NamedBranchBuildStrategyImpl.NameFilter;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import jenkins.util.Timer;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Prepares the matchers of all the configured {@link NameFilter} instances in the background once the jobs have been
+ * loaded, so that the first branch indexing after a restart does not have to compile them.
+ */
+@Restricted(NoExternalUse.class)
+public final class NameFilterWarmUp {
+
+    /**
+     * Our logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(NameFilterWarmUp.class.getName());
+
+    /**
+     * Set to {@code true} to disable the warm up.
+     */
+    private static final boolean DISABLED =
+            SystemProperties.getBoolean(NameFilterWarmUp.class.getName() + ".disabled");
+
+    /**
+     * The maximum number of filters prepared concurrently.
+     */
+    private static final int THREADS = SystemProperties.getInteger(
+            NameFilterWarmUp.class.getName() + ".threads",
+            Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private NameFilterWarmUp() {}
+
+    /**
+     * Starts the warm up in the background.
+     */
+    @Initializer(after = InitMilestone.JOB_CONFIG_ADAPTED)
+    public static void warmUp() {
+        if (DISABLED) {
+            return;
+        }
+        Timer.get().submit(NameFilterWarmUp::start);
+    }
+
+    private static void start() {
+        long start = System.nanoTime();
+        Set<NameFilter> filters = Collections.newSetFromMap(new IdentityHashMap<>());
+        try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+            for (MultiBranchProject<?, ?> project : Jenkins.get().allItems(MultiBranchProject.class)) {
+                for (BranchSource source : project.getSources()) {
+                    for (BranchBuildStrategy strategy : source.getBuildStrategies()) {
+                        collect(strategy, filters);
+                    }
+                }
+            }
+            for (OrganizationFolder folder : Jenkins.get().allItems(OrganizationFolder.class)) {
+                for (BranchBuildStrategy strategy : folder.getBuildStrategies()) {
+                    collect(strategy, filters);
+                }
+            }
+        }
+        int total = filters.size();
+        if (total == 0) {
+            return;
+        }
+        LOGGER.log(Level.INFO, "Preparing {0} branch name filters using {1} threads", new Object[] {total, THREADS});
+        int step = Math.max(1, total / 10);
+        AtomicInteger done = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, THREADS),
+                new NamingThreadFactory(new DaemonThreadFactory(), NameFilterWarmUp.class.getSimpleName()));
+        for (NameFilter filter : filters) {
+            executor.execute(() -> {
+                try {
+                    filter.prepare();
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.FINE, e, () -> "Could not prepare " + filter);
+                }
+                int count = done.incrementAndGet();
+                if (count == total) {
+                    LOGGER.log(Level.INFO, "Prepared {0} branch name filters in {1}ms", new Object[] {
+                        total, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                    });
+                } else if (count % step == 0) {
+                    LOGGER.log(Level.FINE, "Prepared {0} of {1} branch name filters", new Object[] {count, total});
+                }
+            });
+        }
+        // the queued filters are still prepared, the threads exit once they are done
+        executor.shutdown();
+    }
+
+    /**
+     * Collects the filters used by a strategy, including those used by the strategies it is composed of.
+     *
+     * @param strategy the strategy.
+     * @param filters  the filters collected so far.
+     */
+    static void collect(@NonNull BranchBuildStrategy strategy, @NonNull Set<NameFilter> filters) {
+        if (strategy instanceof NameFilterContainer container) {
+            container.collectNameFilters(filters);
+        }
+    }
+}
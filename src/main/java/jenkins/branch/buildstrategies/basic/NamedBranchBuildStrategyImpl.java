@@ -29,36 +29,51 @@ import hudson.Extension;
 import hudson.Util;
 import hudson.model.AbstractDescribableImpl;
 import hudson.model.Descriptor;
+import hudson.model.Item;
 import hudson.model.TaskListener;
 import hudson.util.FormValidation;
 import hudson.util.LogTaskListener;
+import jakarta.servlet.ServletException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import jenkins.branch.BranchBuildStrategy;
 import jenkins.branch.BranchBuildStrategyDescriptor;
+import jenkins.model.Jenkins;
 import jenkins.scm.api.SCMHead;
 import jenkins.scm.api.SCMRevision;
 import jenkins.scm.api.SCMSource;
 import jenkins.scm.api.mixin.ChangeRequestSCMHead;
 import jenkins.scm.api.mixin.TagSCMHead;
+import jenkins.util.SystemProperties;
+import net.sf.json.JSONObject;
 import org.apache.commons.lang3.StringUtils;
 import org.jenkinsci.Symbol;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.AncestorInPath;
 import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.HttpResponses;
 import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.verb.POST;
 
 /**
  * A {@link BranchBuildStrategy} that builds branches with specific names.
  *
  * @since 1.0.1
  */
-public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
+public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy implements NameFilterContainer {
 
     /**
      * The list of filters.
@@ -126,7 +141,7 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
         }
         String name = head.getName();
         for (NameFilter filter : filters) {
-            if (filter.isMatch(name)) {
+            if (filter.isMatch(name, taskListener)) {
                 return true;
             }
         }
@@ -138,6 +153,15 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
         return Collections.unmodifiableList(filters);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Restricted(NoExternalUse.class)
+    public void collectNameFilters(@NonNull Set<NameFilter> filters) {
+        filters.addAll(this.filters);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -174,6 +198,16 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
     @Symbol("buildNamedBranches")
     @Extension
     public static class DescriptorImpl extends BranchBuildStrategyDescriptor {
+        /**
+         * The maximum number of names that can be tested at once.
+         */
+        private static final int TEST_NAMES_LIMIT = 1_000_000;
+
+        /**
+         * The number of matching and of non-matching names to return when testing names.
+         */
+        private static final int TEST_NAMES_SAMPLE_SIZE = 20;
+
         /**
          * {@inheritDoc}
          */
@@ -182,11 +216,101 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
         public String getDisplayName() {
             return Messages.NamedBranchBuildStrategyImpl_displayName();
         }
+
+        /**
+         * Evaluates the submitted filters against a list of names, one per line.
+         *
+         * @param item the item being configured.
+         * @param req  the request, whose submitted form holds the {@code filters} and the {@code names}.
+         * @return the number of matching and non-matching names, a sample of each, the time taken and whether the
+         *     evaluation was stopped by the time limit.
+         * @throws ServletException         if the form could not be parsed.
+         * @throws Descriptor.FormException if the filters could not be instantiated.
+         */
+        @POST
+        @Restricted(NoExternalUse.class) // stapler
+        public HttpResponse doTestNames(@AncestorInPath Item item, StaplerRequest2 req)
+                throws ServletException, Descriptor.FormException {
+            if (item == null) {
+                Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            } else {
+                item.checkPermission(Item.CONFIGURE);
+            }
+            JSONObject form = req.getSubmittedForm();
+            List<NameFilter> filters = Descriptor.newInstancesFromHeteroList(
+                    req, form, "filters", Jenkins.get().getDescriptorList(NameFilter.class));
+            List<String> names = new ArrayList<>();
+            for (String name : form.optString("names").split("\\R")) {
+                name = name.trim();
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+            }
+            if (names.size() > TEST_NAMES_LIMIT) {
+                return HttpResponses.errorJSON(Messages.NamedBranchBuildStrategyImpl_tooManyNames(TEST_NAMES_LIMIT));
+            }
+            NameFilterPreview.Result result = NameFilterPreview.evaluate(filters, names, TEST_NAMES_SAMPLE_SIZE);
+            JSONObject json = new JSONObject();
+            json.put("matched", result.matched());
+            json.put("unmatched", result.unmatched());
+            json.put("matchedSample", result.matchedSample());
+            json.put("unmatchedSample", result.unmatchedSample());
+            json.put("elapsedMillis", result.elapsedMillis());
+            json.put("stopped", result.stopped());
+            return HttpResponses.okJSON(json);
+        }
+    }
+
+    /**
+     * Splits a space separated list of words, ignoring empty entries.
+     *
+     * @param words the space separated words.
+     * @return the individual words.
+     */
+    @NonNull
+    private static List<String> splitWords(@NonNull String words) {
+        List<String> result = new ArrayList<>();
+        for (String word : words.split(" ")) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+        return result;
     }
 
     public abstract static class NameFilter extends AbstractDescribableImpl<NameFilter> {
         public abstract boolean isMatch(@NonNull String name);
 
+        /**
+         * Checks if the name matches, reporting any problems encountered while matching to the listener.
+         *
+         * @param name     the name.
+         * @param listener the listener.
+         * @return {@code true} if the name matches.
+         */
+        public boolean isMatch(@NonNull String name, @NonNull TaskListener listener) {
+            return isMatch(name);
+        }
+
+        /**
+         * Checks if the name matches, giving up on an expensive match after the supplied time budget instead of the
+         * configured one. Used to preview the rules against many names.
+         *
+         * @param name          the name.
+         * @param listener      the listener.
+         * @param timeoutMillis the time budget for matching the name.
+         * @return {@code true} if the name matches.
+         */
+        boolean isMatch(@NonNull String name, @NonNull TaskListener listener, long timeoutMillis) {
+            return isMatch(name, listener);
+        }
+
+        /**
+         * Prepares any expensive state used by {@link #isMatch(String)}, such as compiled patterns, ahead of the first
+         * match. Called from a background thread after the jobs have been loaded.
+         */
+        public void prepare() {}
+
         @Override
         public abstract int hashCode();
 
@@ -266,17 +390,28 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
     }
 
     public static class RegexNameFilter extends NameFilter {
+        /**
+         * Our logger.
+         */
+        private static final Logger LOGGER = Logger.getLogger(RegexNameFilter.class.getName());
+
+        /**
+         * The time budget for matching a single name, after which the name is treated as not matching.
+         */
+        static final long MATCH_TIMEOUT_MILLIS =
+                SystemProperties.getLong(RegexNameFilter.class.getName() + ".matchTimeoutMillis", 1000L);
+
         @NonNull
         private final String regex;
 
         private final boolean caseSensitive;
-        private transient Pattern pattern;
+        private transient volatile Pattern pattern;
 
         @DataBoundConstructor
         public RegexNameFilter(@CheckForNull String regex, boolean caseSensitive) {
             this.regex = StringUtils.defaultIfBlank(regex, "^.*$");
             this.caseSensitive = caseSensitive;
-            pattern = Pattern.compile(this.regex, caseSensitive ? 0 : Pattern.CASE_INSENSITIVE);
+            pattern = CompiledMatchers.pattern(this.regex, caseSensitive);
         }
 
         @NonNull
@@ -290,10 +425,36 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
 
         @Override
         public boolean isMatch(@NonNull String name) {
+            return isMatch(name, TaskListener.NULL);
+        }
+
+        @Override
+        public boolean isMatch(@NonNull String name, @NonNull TaskListener listener) {
+            return isMatch(name, listener, MATCH_TIMEOUT_MILLIS);
+        }
+
+        @Override
+        boolean isMatch(@NonNull String name, @NonNull TaskListener listener, long timeoutMillis) {
+            prepare();
+            try {
+                return pattern.matcher(InterruptibleCharSequence.of(name, timeoutMillis)).matches();
+            } catch (InterruptibleCharSequence.MatchAbortedException e) {
+                String message = e.isInterrupted()
+                        ? String.format("Interrupted while matching %s against /%s/, treating as no match", name, regex)
+                        : String.format(
+                                "Matching %s against /%s/ took longer than %dms, treating as no match",
+                                name, regex, timeoutMillis);
+                LOGGER.log(Level.WARNING, message);
+                listener.getLogger().println(message);
+                return false;
+            }
+        }
+
+        @Override
+        public void prepare() {
             if (pattern == null) {
-                pattern = Pattern.compile(regex, caseSensitive ? 0 : Pattern.CASE_INSENSITIVE);
+                pattern = CompiledMatchers.pattern(regex, caseSensitive);
             }
-            return pattern.matcher(name).matches();
         }
 
         @Override
@@ -328,6 +489,21 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
         @Symbol("regex")
         @Extension
         public static class DescriptorImpl extends NameFilterDescriptor {
+            /**
+             * The time budget for each of the trial matches used to detect slow regular expressions.
+             */
+            private static final long TRIAL_TIMEOUT_MILLIS = 50L;
+
+            /**
+             * The number of recent validation results to keep, as the form is validated on every keystroke.
+             */
+            private static final int RECENT_CHECKS_SIZE = 64;
+
+            /**
+             * The recent validation results by regular expression.
+             */
+            private final transient Map<String, FormValidation> recentChecks = new RecentChecks();
+
             @NonNull
             @Override
             public String getDisplayName() {
@@ -337,17 +513,81 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
             /**
              * Form validation for the regular expression.
              *
+             * @param item  the item being configured.
              * @param value the regular expression.
              * @return the validation results.
              */
             @Restricted(NoExternalUse.class) // stapler
-            public FormValidation doCheckRegex(@QueryParameter String value) {
-                try {
-                    Pattern.compile(value);
+            @POST
+            public FormValidation doCheckRegex(@AncestorInPath Item item, @QueryParameter String value) {
+                // the trial matches spend controller time on every request
+                if (item == null
+                        ? !Jenkins.get().hasPermission(Jenkins.ADMINISTER)
+                        : !item.hasPermission(Item.CONFIGURE)) {
                     return FormValidation.ok();
+                }
+                String regex = Util.fixNull(value);
+                synchronized (recentChecks) {
+                    FormValidation result = recentChecks.get(regex);
+                    if (result != null) {
+                        return result;
+                    }
+                }
+                FormValidation result = checkRegex(regex);
+                synchronized (recentChecks) {
+                    recentChecks.put(regex, result);
+                }
+                return result;
+            }
+
+            private static FormValidation checkRegex(String regex) {
+                Pattern pattern;
+                try {
+                    pattern = Pattern.compile(regex);
                 } catch (PatternSyntaxException e) {
                     return FormValidation.error(e.getMessage());
                 }
+                List<FormValidation> warnings = new ArrayList<>();
+                for (RegexComplexityAnalyzer.Hazard hazard : RegexComplexityAnalyzer.analyze(regex)) {
+                    switch (hazard.kind()) {
+                        case NESTED_QUANTIFIER:
+                            warnings.add(FormValidation.warning(
+                                    Messages.NamedBranchBuildStrategyImpl_regexNestedQuantifier(hazard.fragment())));
+                            break;
+                        case OVERLAPPING_ALTERNATION:
+                            warnings.add(FormValidation.warning(
+                                    Messages.NamedBranchBuildStrategyImpl_regexOverlappingAlternation(
+                                            hazard.fragment())));
+                            break;
+                        default:
+                            warnings.add(FormValidation.warning(
+                                    Messages.NamedBranchBuildStrategyImpl_regexOverlappingQuantifiers(
+                                            hazard.fragment())));
+                            break;
+                    }
+                }
+                String slowInput = RegexComplexityAnalyzer.findSlowInput(pattern, TRIAL_TIMEOUT_MILLIS);
+                if (slowInput != null) {
+                    warnings.add(FormValidation.warning(Messages.NamedBranchBuildStrategyImpl_regexSlowInput(
+                            slowInput.trim(), TRIAL_TIMEOUT_MILLIS)));
+                }
+                return warnings.isEmpty() ? FormValidation.ok() : FormValidation.aggregate(warnings);
+            }
+
+            /**
+             * A least recently used map of validation results.
+             */
+            private static final class RecentChecks extends LinkedHashMap<String, FormValidation> {
+                private static final long serialVersionUID = 1L;
+
+                private RecentChecks() {
+                    super(RECENT_CHECKS_SIZE, 0.75f, true);
+                }
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, FormValidation> eldest) {
+                    return size() > RECENT_CHECKS_SIZE;
+                }
             }
         }
     }
@@ -360,8 +600,8 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
         private final String excludes;
 
         private final boolean caseSensitive;
-        private transient Pattern includePattern;
-        private transient Pattern excludePattern;
+        private transient volatile Pattern includePattern;
+        private transient volatile Pattern excludePattern;
 
         @DataBoundConstructor
         public WildcardsNameFilter(
@@ -369,8 +609,8 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
             this.includes = StringUtils.defaultIfBlank(includes, "*");
             this.excludes = StringUtils.defaultIfBlank(excludes, "");
             this.caseSensitive = caseSensitive;
-            includePattern = Pattern.compile(getPattern(this.includes), caseSensitive ? 0 : Pattern.CASE_INSENSITIVE);
-            excludePattern = Pattern.compile(getPattern(this.excludes), caseSensitive ? 0 : Pattern.CASE_INSENSITIVE);
+            includePattern = CompiledMatchers.pattern(getPattern(this.includes), caseSensitive);
+            excludePattern = CompiledMatchers.pattern(getPattern(this.excludes), caseSensitive);
         }
 
         @NonNull
@@ -389,21 +629,26 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
 
         @Override
         public boolean isMatch(@NonNull String name) {
-            if (includePattern == null) {
-                includePattern = Pattern.compile(getPattern(includes), caseSensitive ? 0 : Pattern.CASE_INSENSITIVE);
-            }
+            prepare();
             if (!includePattern.matcher(name).matches()) {
                 return false;
             }
             if (StringUtils.isBlank(excludes)) {
                 return true;
             }
-            if (excludePattern == null) {
-                excludePattern = Pattern.compile(getPattern(excludes), caseSensitive ? 0 : Pattern.CASE_INSENSITIVE);
-            }
             return !excludePattern.matcher(name).matches();
         }
 
+        @Override
+        public void prepare() {
+            if (includePattern == null) {
+                includePattern = CompiledMatchers.pattern(getPattern(includes), caseSensitive);
+            }
+            if (excludePattern == null && !StringUtils.isBlank(excludes)) {
+                excludePattern = CompiledMatchers.pattern(getPattern(excludes), caseSensitive);
+            }
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) {
@@ -446,7 +691,7 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
          * @param names the names of branches to create a pattern for
          * @return pattern corresponding to the branches containing wildcards
          */
-        private String getPattern(String names) {
+        static String getPattern(String names) {
             StringBuilder quotedBranches = new StringBuilder();
             for (String wildcard : names.split(" ")) {
                 StringBuilder quotedBranch = new StringBuilder();
@@ -475,4 +720,323 @@ public class NamedBranchBuildStrategyImpl extends BranchBuildStrategy {
             }
         }
     }
+
+    public static class PrefixNameFilter extends NameFilter {
+        @NonNull
+        private final String prefixes;
+
+        private final boolean caseSensitive;
+        private transient volatile PrefixTrie trie;
+
+        @DataBoundConstructor
+        public PrefixNameFilter(@CheckForNull String prefixes, boolean caseSensitive) {
+            this.prefixes = Util.fixNull(prefixes).trim();
+            this.caseSensitive = caseSensitive;
+            trie = CompiledMatchers.get(
+                    PrefixTrie.class, this.prefixes, caseSensitive, p -> new PrefixTrie(splitWords(p), caseSensitive));
+        }
+
+        @NonNull
+        public String getPrefixes() {
+            return prefixes;
+        }
+
+        public boolean isCaseSensitive() {
+            return caseSensitive;
+        }
+
+        @Override
+        public boolean isMatch(@NonNull String name) {
+            prepare();
+            return trie.matches(name);
+        }
+
+        @Override
+        public void prepare() {
+            if (trie == null) {
+                trie = CompiledMatchers.get(
+                        PrefixTrie.class, prefixes, caseSensitive, p -> new PrefixTrie(splitWords(p), caseSensitive));
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            PrefixNameFilter that = (PrefixNameFilter) o;
+
+            if (caseSensitive != that.caseSensitive) {
+                return false;
+            }
+            return prefixes.equals(that.prefixes);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = prefixes.hashCode();
+            result = 31 * result + (caseSensitive ? 1 : 0);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "PrefixNameFilter{" + "prefixes='" + prefixes + '\'' + ", caseSensitive=" + caseSensitive + '}';
+        }
+
+        @Symbol("prefix")
+        @Extension
+        public static class DescriptorImpl extends NameFilterDescriptor {
+            @NonNull
+            @Override
+            public String getDisplayName() {
+                return Messages.NamedBranchBuildStrategyImpl_prefixDisplayName();
+            }
+        }
+    }
+
+    public static class ContainsNameFilter extends NameFilter {
+        @NonNull
+        private final String substrings;
+
+        private final boolean caseSensitive;
+        private transient volatile AhoCorasickAutomaton automaton;
+
+        @DataBoundConstructor
+        public ContainsNameFilter(@CheckForNull String substrings, boolean caseSensitive) {
+            this.substrings = Util.fixNull(substrings).trim();
+            this.caseSensitive = caseSensitive;
+            automaton = CompiledMatchers.get(
+                    AhoCorasickAutomaton.class,
+                    this.substrings,
+                    caseSensitive,
+                    p -> new AhoCorasickAutomaton(splitWords(p), caseSensitive));
+        }
+
+        @NonNull
+        public String getSubstrings() {
+            return substrings;
+        }
+
+        public boolean isCaseSensitive() {
+            return caseSensitive;
+        }
+
+        @Override
+        public boolean isMatch(@NonNull String name) {
+            prepare();
+            return automaton.matches(name);
+        }
+
+        @Override
+        public void prepare() {
+            if (automaton == null) {
+                automaton = CompiledMatchers.get(
+                        AhoCorasickAutomaton.class,
+                        substrings,
+                        caseSensitive,
+                        p -> new AhoCorasickAutomaton(splitWords(p), caseSensitive));
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ContainsNameFilter that = (ContainsNameFilter) o;
+
+            if (caseSensitive != that.caseSensitive) {
+                return false;
+            }
+            return substrings.equals(that.substrings);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = substrings.hashCode();
+            result = 31 * result + (caseSensitive ? 1 : 0);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "ContainsNameFilter{" + "substrings='"
+                    + substrings + '\'' + ", caseSensitive="
+                    + caseSensitive + '}';
+        }
+
+        @Symbol("contains")
+        @Extension
+        public static class DescriptorImpl extends NameFilterDescriptor {
+            @NonNull
+            @Override
+            public String getDisplayName() {
+                return Messages.NamedBranchBuildStrategyImpl_containsDisplayName();
+            }
+        }
+    }
+
+    public static class FileNameFilter extends NameFilter {
+        /**
+         * Our logger.
+         */
+        private static final Logger LOGGER = Logger.getLogger(FileNameFilter.class.getName());
+
+        @NonNull
+        private final String path;
+
+        private final boolean compact;
+        private transient volatile BranchListFile file;
+
+        /**
+         * Why the path is invalid, so that it is only reported to the log once.
+         */
+        private transient volatile String invalid;
+
+        @DataBoundConstructor
+        public FileNameFilter(@CheckForNull String path, boolean compact) {
+            this.path = Util.fixNull(path).trim();
+            this.compact = compact;
+        }
+
+        @NonNull
+        public String getPath() {
+            return path;
+        }
+
+        public boolean isCompact() {
+            return compact;
+        }
+
+        /**
+         * Resets the cached file and load failure.
+         *
+         * @return the instance to use.
+         */
+        protected Object readResolve() {
+            file = null;
+            invalid = null;
+            return this;
+        }
+
+        @Override
+        public boolean isMatch(@NonNull String name) {
+            return isMatch(name, TaskListener.NULL);
+        }
+
+        @Override
+        public boolean isMatch(@NonNull String name, @NonNull TaskListener listener) {
+            BranchListFile file = file();
+            if (file == null) {
+                listener.getLogger()
+                        .format("Invalid branch list file %s: %s, treating %s as no match%n", path, invalid, name);
+                return false;
+            }
+            return file.contains(name);
+        }
+
+        @Override
+        public void prepare() {
+            BranchListFile file = file();
+            if (file != null) {
+                // loads the names if this is the first filter to use the file
+                file.size();
+            }
+        }
+
+        /**
+         * Returns the shared file, looking it up on first use.
+         *
+         * @return the file, or {@code null} if the path is invalid.
+         */
+        @CheckForNull
+        private BranchListFile file() {
+            BranchListFile file = this.file;
+            if (file == null && invalid == null) {
+                try {
+                    file = BranchListFile.of(path, compact);
+                    this.file = file;
+                } catch (IllegalArgumentException e) {
+                    invalid = e.getMessage();
+                    LOGGER.log(Level.WARNING, "Invalid branch list file {0}: {1}", new Object[] {path, invalid});
+                }
+            }
+            return file;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            FileNameFilter that = (FileNameFilter) o;
+
+            if (compact != that.compact) {
+                return false;
+            }
+            return path.equals(that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = path.hashCode();
+            result = 31 * result + (compact ? 1 : 0);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "FileNameFilter{" + "path='" + path + '\'' + ", compact=" + compact + '}';
+        }
+
+        @Symbol("fromFile")
+        @Extension
+        public static class DescriptorImpl extends NameFilterDescriptor {
+            @NonNull
+            @Override
+            public String getDisplayName() {
+                return Messages.NamedBranchBuildStrategyImpl_fileDisplayName();
+            }
+
+            /**
+             * Form validation for the path.
+             *
+             * @param item  the item being configured.
+             * @param value the path.
+             * @return the validation results.
+             */
+            @Restricted(NoExternalUse.class) // stapler
+            @POST
+            public FormValidation doCheckPath(@AncestorInPath Item item, @QueryParameter String value) {
+                if (item == null
+                        ? !Jenkins.get().hasPermission(Jenkins.ADMINISTER)
+                        : !item.hasPermission(Item.CONFIGURE)) {
+                    return FormValidation.ok();
+                }
+                Path file;
+                try {
+                    file = BranchListFile.resolve(Util.fixNull(value).trim());
+                } catch (IllegalArgumentException e) {
+                    return FormValidation.error(e.getMessage());
+                }
+                if (!Files.isRegularFile(file)) {
+                    return FormValidation.warning(Messages.NamedBranchBuildStrategyImpl_fileDoesNotExist(file));
+                }
+                return FormValidation.ok();
+            }
+        }
+    }
 }
@@ -32,14 +32,18 @@ import hudson.util.LogTaskListener;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jenkins.branch.BranchBuildStrategy;
 import jenkins.branch.BranchBuildStrategyDescriptor;
+import jenkins.branch.buildstrategies.basic.NamedBranchBuildStrategyImpl.NameFilter;
 import jenkins.scm.api.SCMHead;
 import jenkins.scm.api.SCMRevision;
 import jenkins.scm.api.SCMSource;
 import org.jenkinsci.Symbol;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -47,7 +51,7 @@ import org.kohsuke.stapler.DataBoundConstructor;
  *
  * @since 1.0.1
  */
-public class NoneBranchBuildStrategyImpl extends BranchBuildStrategy {
+public class NoneBranchBuildStrategyImpl extends BranchBuildStrategy implements NameFilterContainer {
 
     /**
      * The list of sub strategies.
@@ -127,6 +131,17 @@ public class NoneBranchBuildStrategyImpl extends BranchBuildStrategy {
         return Collections.unmodifiableList(strategies);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Restricted(NoExternalUse.class)
+    public void collectNameFilters(@NonNull Set<NameFilter> filters) {
+        for (BranchBuildStrategy strategy : strategies) {
+            NameFilterWarmUp.collect(strategy, filters);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable character trie that answers whether a name starts with any of a set of prefixes in a single pass
+ * over the name.
+ */
+final class PrefixTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    /**
+     * The root of the trie.
+     */
+    @NonNull
+    private final Node root;
+
+    /**
+     * {@code false} if both the prefixes and the names are case folded before comparison.
+     */
+    private final boolean caseSensitive;
+
+    /**
+     * Constructor.
+     *
+     * @param prefixes      the prefixes to match.
+     * @param caseSensitive {@code true} to match case sensitively.
+     */
+    PrefixTrie(@NonNull Iterable<String> prefixes, boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+        Builder root = new Builder();
+        for (String prefix : prefixes) {
+            Builder node = root;
+            for (int i = 0; i < prefix.length() && !node.terminal; i++) {
+                node = node.children.computeIfAbsent(fold(prefix.charAt(i)), k -> new Builder());
+            }
+            node.terminal = true;
+        }
+        this.root = root.build();
+    }
+
+    /**
+     * Checks if the supplied name starts with any of the prefixes.
+     *
+     * @param name the name.
+     * @return {@code true} if the name starts with at least one of the prefixes.
+     */
+    boolean matches(@NonNull CharSequence name) {
+        Node node = root;
+        for (int i = 0; !node.terminal; i++) {
+            if (i >= name.length()) {
+                return false;
+            }
+            node = node.child(fold(name.charAt(i)));
+            if (node == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private char fold(char c) {
+        // same folding as String.equalsIgnoreCase but without allocating a lowercase copy of the name
+        return caseSensitive ? c : Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * A frozen trie node, children are looked up by binary search over the sorted keys.
+     */
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final boolean terminal;
+
+        private Node(char[] keys, Node[] children, boolean terminal) {
+            this.keys = keys;
+            this.children = children;
+            this.terminal = terminal;
+        }
+
+        @CheckForNull
+        private Node child(char c) {
+            int low = 0;
+            int high = keys.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char k = keys[mid];
+                if (k < c) {
+                    low = mid + 1;
+                } else if (k > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A mutable trie node used during construction.
+     */
+    private static final class Builder {
+        private final Map<Character, Builder> children = new TreeMap<>();
+        private boolean terminal;
+
+        private Node build() {
+            if (terminal || children.isEmpty()) {
+                // once a prefix has matched any longer prefix is irrelevant
+                return new Node(NO_KEYS, NO_CHILDREN, terminal);
+            }
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i] = entry.getValue().build();
+                i++;
+            }
+            return new Node(keys, nodes, false);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.TaskListener;
+import hudson.util.FormValidation;
+import hudson.util.LogTaskListener;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.branch.BranchBuildStrategy;
+import jenkins.branch.BranchBuildStrategyDescriptor;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMSource;
+import org.jenkinsci.Symbol;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+
+/**
+ * A {@link BranchBuildStrategy} that does not build a revision until a configurable number of seconds have passed
+ * since it was first seen without the head moving on to another revision, so that a burst of pushes is only built
+ * once it has settled. The settled revision is built by the next branch indexing or event that finds the head
+ * unchanged. Intended to be combined with other strategies through {@link AllBranchBuildStrategyImpl}.
+ */
+public class QuietPeriodBuildStrategyImpl extends BranchBuildStrategy {
+
+    private final int quietPeriodSeconds;
+
+    /**
+     * Our constructor.
+     *
+     * @param quietPeriodSeconds the number of seconds a revision must have been the current revision of its head
+     *                           before it is built, {@code 0} to always build.
+     */
+    @DataBoundConstructor
+    public QuietPeriodBuildStrategyImpl(int quietPeriodSeconds) {
+        this.quietPeriodSeconds = Math.max(0, quietPeriodSeconds);
+    }
+
+    public int getQuietPeriodSeconds() {
+        return quietPeriodSeconds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision) {
+        return isAutomaticBuild(
+                source,
+                head,
+                currRevision,
+                prevRevision,
+                new LogTaskListener(Logger.getLogger(getClass().getName()), Level.INFO));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision,
+            @NonNull TaskListener taskListener) {
+        return isAutomaticBuild(source, head, currRevision, prevRevision, prevRevision, taskListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision lastBuiltRevision,
+            @CheckForNull SCMRevision lastSeenRevision,
+            @NonNull TaskListener listener) {
+        if (quietPeriodSeconds == 0) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        long firstSeen = RevisionFirstSeenIndex.firstSeen(source.getId(), head.getName(), currRevision.toString(), now);
+        long age = Math.max(0L, now - firstSeen);
+        if (age >= TimeUnit.SECONDS.toMillis(quietPeriodSeconds)) {
+            return true;
+        }
+        listener.getLogger()
+                .format(
+                        "Not building %s yet as revision %s was first seen %s ago, waiting for a quiet period of %s%n",
+                        head.getName(),
+                        currRevision,
+                        Util.getTimeSpanString(age),
+                        Util.getTimeSpanString(TimeUnit.SECONDS.toMillis(quietPeriodSeconds)));
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        QuietPeriodBuildStrategyImpl that = (QuietPeriodBuildStrategyImpl) o;
+
+        return quietPeriodSeconds == that.quietPeriodSeconds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return quietPeriodSeconds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "QuietPeriodBuildStrategyImpl{" + "quietPeriodSeconds=" + quietPeriodSeconds + '}';
+    }
+
+    /**
+     * Our descriptor.
+     */
+    @Symbol("quietPeriod")
+    @Extension
+    public static class DescriptorImpl extends BranchBuildStrategyDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public String getDisplayName() {
+            return Messages.QuietPeriodBuildStrategyImpl_displayName();
+        }
+
+        /**
+         * Form validation for the number of seconds.
+         *
+         * @param value the number of seconds.
+         * @return the validation results.
+         */
+        @Restricted(NoExternalUse.class) // stapler
+        public FormValidation doCheckQuietPeriodSeconds(@QueryParameter String value) {
+            return FormValidation.validateNonNegativeInteger(value);
+        }
+    }
+}
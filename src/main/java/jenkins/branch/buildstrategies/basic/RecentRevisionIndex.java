@@ -0,0 +1,221 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.Result;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.RunListener;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMRevisionAction;
+import jenkins.util.SystemProperties;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * A controller wide index of when each revision was last built successfully, by any job. Revisions are keyed by a
+ * 64-bit hash of their {@link SCMRevision#toString()}, which for most sources is the commit hash, so the same commit
+ * built by a branch, a change request from the same repository or a mirror of the repository shares an entry. This
+ * also holds within a project: a new branch created at the commit of another branch, or a tag on a commit that a
+ * change request has built, finds the earlier build.
+ * <p>
+ * Only the builds of sources that use {@link SkipRecentlyBuiltRevisionBuildStrategyImpl} are recorded, so jobs that
+ * have not opted in never stop the builds of those that have.
+ * <p>
+ * The entries are held in two primitive arrays divided into buckets of {@link #BUCKET_SIZE} slots. A revision can only
+ * live in the bucket selected by its hash, and when the bucket is full the least recently built entry is replaced,
+ * so the index never grows and old revisions age out on their own. Each bucket is guarded by one of
+ * {@link #STRIPES} locks.
+ */
+@Restricted(NoExternalUse.class)
+public final class RecentRevisionIndex {
+
+    /**
+     * The number of slots probed for each revision.
+     */
+    static final int BUCKET_SIZE = 8;
+
+    /**
+     * The number of locks shared by the buckets.
+     */
+    private static final int STRIPES = 64;
+
+    /**
+     * The number of revisions the controller wide index holds, rounded down to a power of two. Each slot takes 16
+     * bytes, so the default of 262144 takes 4MiB and a few million can be held where needed.
+     */
+    private static final int CAPACITY =
+            SystemProperties.getInteger(RecentRevisionIndex.class.getName() + ".capacity", 1 << 18);
+
+    /**
+     * The ids of the sources whose successful builds are recorded.
+     */
+    private static final Set<String> SOURCES = ConcurrentHashMap.newKeySet();
+
+    private final long[] keys;
+    private final long[] times;
+    private final Object[] locks;
+    private final int bucketMask;
+
+    RecentRevisionIndex(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, BUCKET_SIZE));
+        this.keys = new long[size];
+        this.times = new long[size];
+        this.bucketMask = size / BUCKET_SIZE - 1;
+        this.locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Returns the controller wide index, which is only allocated on first use.
+     *
+     * @return the controller wide index.
+     */
+    @NonNull
+    static RecentRevisionIndex get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Records the successful builds of the source from now on.
+     *
+     * @param sourceId the id of the source.
+     */
+    static void optIn(@NonNull String sourceId) {
+        SOURCES.add(sourceId);
+    }
+
+    /**
+     * Checks if the successful builds of the source are recorded.
+     *
+     * @param sourceId the id of the source.
+     * @return {@code true} if a strategy of the source has opted in.
+     */
+    static boolean isOptedIn(@CheckForNull String sourceId) {
+        return sourceId != null && SOURCES.contains(sourceId);
+    }
+
+    /**
+     * Records that the revision was built successfully.
+     *
+     * @param revision the revision, as returned by {@link SCMRevision#toString()}.
+     * @param time     the time the build completed in milliseconds since the epoch.
+     */
+    void record(@NonNull String revision, long time) {
+        long key = hash(revision);
+        int start = bucket(key);
+        synchronized (lock(start)) {
+            int victim = start;
+            for (int i = start; i < start + BUCKET_SIZE; i++) {
+                if (keys[i] == key) {
+                    times[i] = Math.max(times[i], time);
+                    return;
+                }
+                // empty slots have a time of 0 so they are always taken first
+                if (times[i] < times[victim]) {
+                    victim = i;
+                }
+            }
+            keys[victim] = key;
+            times[victim] = time;
+        }
+    }
+
+    /**
+     * Returns when the revision was last built successfully.
+     *
+     * @param revision the revision, as returned by {@link SCMRevision#toString()}.
+     * @return the time the last successful build completed in milliseconds since the epoch, or {@code -1L} if the
+     *         revision is not in the index.
+     */
+    long lastBuilt(@NonNull String revision) {
+        long key = hash(revision);
+        int start = bucket(key);
+        synchronized (lock(start)) {
+            for (int i = start; i < start + BUCKET_SIZE; i++) {
+                if (keys[i] == key) {
+                    return times[i];
+                }
+            }
+        }
+        return -1L;
+    }
+
+    private int bucket(long key) {
+        return ((int) (key ^ (key >>> 32)) & bucketMask) * BUCKET_SIZE;
+    }
+
+    private Object lock(int bucket) {
+        return locks[(bucket / BUCKET_SIZE) & (STRIPES - 1)];
+    }
+
+    /**
+     * Hashes the revision to a non-zero 64-bit key, zero marks an empty slot.
+     *
+     * @param revision the revision.
+     * @return the key.
+     */
+    static long hash(@NonNull String revision) {
+        // FNV-1a followed by the MurmurHash3 finalizer to spread the bits used for the bucket
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < revision.length(); i++) {
+            h = (h ^ revision.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0L ? 1L : h;
+    }
+
+    private static final class Holder {
+        private static final RecentRevisionIndex INSTANCE = new RecentRevisionIndex(CAPACITY);
+    }
+
+    /**
+     * Records the revisions of successful builds of the sources that opted in.
+     */
+    @Restricted(NoExternalUse.class)
+    @Extension
+    public static class RunListenerImpl extends RunListener<Run<?, ?>> {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onCompleted(Run<?, ?> run, @NonNull TaskListener listener) {
+            SCMRevisionAction action = run.getAction(SCMRevisionAction.class);
+            if (action != null && run.getResult() == Result.SUCCESS && isOptedIn(action.getSourceId())) {
+                get().record(action.getRevision().toString(), System.currentTimeMillis());
+            }
+        }
+    }
+}
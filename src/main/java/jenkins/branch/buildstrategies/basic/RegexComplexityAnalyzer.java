@@ -0,0 +1,541 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Looks for regular expression constructs that are prone to catastrophic backtracking, both by inspecting the
+ * structure of the expression and by timing it against inputs designed to trigger backtracking.
+ */
+final class RegexComplexityAnalyzer {
+
+    /**
+     * The length of the repeated part of the adversarial inputs.
+     */
+    private static final int TRIAL_INPUT_LENGTH = 32;
+
+    /**
+     * The maximum number of distinct characters to build adversarial inputs from.
+     */
+    private static final int TRIAL_MAX_CHARACTERS = 8;
+
+    /**
+     * The total time spent on a trial run, as a multiple of the per input budget.
+     */
+    private static final int TRIAL_TOTAL_BUDGETS = 10;
+
+    /**
+     * The kinds of hazard that are detected.
+     */
+    enum Kind {
+        /**
+         * A repeated group that itself contains an unbounded quantifier, such as {@code (a+)+}.
+         */
+        NESTED_QUANTIFIER,
+        /**
+         * A repeated group whose alternatives can match the same characters, such as {@code (a|ab)*}.
+         */
+        OVERLAPPING_ALTERNATION,
+        /**
+         * Adjacent unbounded quantifiers that can match the same characters, such as {@code \d+\w*}.
+         */
+        OVERLAPPING_ADJACENT_QUANTIFIERS
+    }
+
+    /**
+     * A detected hazard.
+     *
+     * @param kind     the kind of hazard.
+     * @param fragment the part of the expression that is the cause.
+     */
+    record Hazard(@NonNull Kind kind, @NonNull String fragment) {}
+
+    private final String regex;
+    private int pos;
+    private final List<Hazard> hazards = new ArrayList<>();
+    private final Set<String> atoms = new LinkedHashSet<>();
+
+    private RegexComplexityAnalyzer(String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * Inspects the structure of a regular expression for constructs prone to catastrophic backtracking.
+     *
+     * @param regex the regular expression, which must compile.
+     * @return the hazards found.
+     */
+    @NonNull
+    static List<Hazard> analyze(@NonNull String regex) {
+        RegexComplexityAnalyzer analyzer = new RegexComplexityAnalyzer(regex);
+        analyzer.check(analyzer.parseAlternatives());
+        return Collections.unmodifiableList(analyzer.hazards);
+    }
+
+    /**
+     * Times a compiled regular expression against inputs built from the characters it references, repeated and
+     * followed by a character that forces the match to fail.
+     *
+     * @param pattern      the compiled expression.
+     * @param budgetMillis the time budget for each input.
+     * @return the first input that exceeded the budget, or {@code null} if none did within the overall time limit.
+     */
+    @CheckForNull
+    static String findSlowInput(@NonNull Pattern pattern, long budgetMillis) {
+        RegexComplexityAnalyzer analyzer = new RegexComplexityAnalyzer(pattern.pattern());
+        analyzer.parseAlternatives();
+        List<Character> characters = new ArrayList<>();
+        for (String atom : analyzer.atoms) {
+            Character sample = sample(atom);
+            if (sample != null && !characters.contains(sample) && characters.size() < TRIAL_MAX_CHARACTERS) {
+                characters.add(sample);
+            }
+        }
+        if (characters.isEmpty()) {
+            characters.add('a');
+        }
+        List<String> inputs = new ArrayList<>();
+        for (char a : characters) {
+            for (char b : characters) {
+                StringBuilder input = new StringBuilder(TRIAL_INPUT_LENGTH + 1);
+                for (int i = 0; i < TRIAL_INPUT_LENGTH; i++) {
+                    input.append(i % 2 == 0 ? a : b);
+                }
+                inputs.add(input + "!");
+                inputs.add(input + "\n");
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis * TRIAL_TOTAL_BUDGETS);
+        for (String input : inputs) {
+            if (System.nanoTime() - deadline > 0) {
+                break;
+            }
+            try {
+                pattern.matcher(InterruptibleCharSequence.of(input, budgetMillis)).matches();
+            } catch (InterruptibleCharSequence.MatchAbortedException e) {
+                if (e.isInterrupted()) {
+                    return null;
+                }
+                return input;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a printable ASCII character that the atom matches.
+     *
+     * @param atom the atom as a standalone regular expression.
+     * @return the character or {@code null} if there is none.
+     */
+    @CheckForNull
+    private static Character sample(String atom) {
+        Pattern pattern = compile(atom);
+        if (pattern != null) {
+            for (char c = 'a'; c <= 'z'; c++) {
+                // prefer letters so that classes such as \w or . produce typical branch name characters
+                if (pattern.matcher(String.valueOf(c)).matches()) {
+                    return c;
+                }
+            }
+            for (char c = ' '; c <= '~'; c++) {
+                if (pattern.matcher(String.valueOf(c)).matches()) {
+                    return c;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if two atoms can match a common printable ASCII character.
+     *
+     * @param a the first atom as a standalone regular expression.
+     * @param b the second atom as a standalone regular expression.
+     * @return {@code true} if the two atoms overlap.
+     */
+    private static boolean overlaps(String a, String b) {
+        if (a.equals(b)) {
+            return true;
+        }
+        Pattern pa = compile(a);
+        Pattern pb = compile(b);
+        if (pa == null || pb == null) {
+            return false;
+        }
+        for (char c = ' '; c <= '~'; c++) {
+            String s = String.valueOf(c);
+            if (pa.matcher(s).matches() && pb.matcher(s).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @CheckForNull
+    private static Pattern compile(String atom) {
+        try {
+            return Pattern.compile(atom);
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Walks a sequence of nodes recording hazards.
+     *
+     * @param alternatives the alternatives of the enclosing group.
+     */
+    private void check(List<List<Node>> alternatives) {
+        for (List<Node> sequence : alternatives) {
+            for (int i = 0; i < sequence.size(); i++) {
+                Node node = sequence.get(i);
+                if (node.alternatives != null) {
+                    check(node.alternatives);
+                    if (node.repeats() && !node.possessive && !node.atomic) {
+                        if (containsUnbounded(node.alternatives)) {
+                            hazards.add(new Hazard(Kind.NESTED_QUANTIFIER, node.text(regex)));
+                        } else if (node.unbounded() && alternativesOverlap(node.alternatives)) {
+                            hazards.add(new Hazard(Kind.OVERLAPPING_ALTERNATION, node.text(regex)));
+                        }
+                    }
+                }
+                if (i > 0) {
+                    Node previous = sequence.get(i - 1);
+                    if (previous.atom != null
+                            && node.atom != null
+                            && previous.unbounded()
+                            && node.unbounded()
+                            && !previous.possessive
+                            && !node.possessive
+                            && overlaps(previous.atom, node.atom)) {
+                        hazards.add(new Hazard(
+                                Kind.OVERLAPPING_ADJACENT_QUANTIFIERS, regex.substring(previous.start, node.end)));
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean containsUnbounded(List<List<Node>> alternatives) {
+        for (List<Node> sequence : alternatives) {
+            for (Node node : sequence) {
+                if (node.unbounded() && !node.possessive) {
+                    return true;
+                }
+                if (node.alternatives != null && !node.atomic && containsUnbounded(node.alternatives)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean alternativesOverlap(List<List<Node>> alternatives) {
+        List<List<String>> firsts = new ArrayList<>();
+        for (List<Node> sequence : alternatives) {
+            List<String> first = new ArrayList<>();
+            firstAtoms(sequence, first);
+            for (List<String> other : firsts) {
+                for (String a : first) {
+                    for (String b : other) {
+                        if (overlaps(a, b)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            firsts.add(first);
+        }
+        return false;
+    }
+
+    private static void firstAtoms(List<Node> sequence, List<String> result) {
+        for (Node node : sequence) {
+            if (node.atom != null) {
+                result.add(node.atom);
+                return;
+            }
+            if (node.alternatives != null && !node.lookaround) {
+                for (List<Node> alternative : node.alternatives) {
+                    firstAtoms(alternative, result);
+                }
+                return;
+            }
+        }
+    }
+
+    private List<List<Node>> parseAlternatives() {
+        List<List<Node>> alternatives = new ArrayList<>();
+        alternatives.add(parseSequence());
+        while (pos < regex.length() && regex.charAt(pos) == '|') {
+            pos++;
+            alternatives.add(parseSequence());
+        }
+        return alternatives;
+    }
+
+    private List<Node> parseSequence() {
+        List<Node> sequence = new ArrayList<>();
+        while (pos < regex.length() && regex.charAt(pos) != '|' && regex.charAt(pos) != ')') {
+            Node node = parseAtom();
+            if (node != null) {
+                parseQuantifier(node);
+                sequence.add(node);
+            }
+        }
+        return sequence;
+    }
+
+    @CheckForNull
+    private Node parseAtom() {
+        int start = pos;
+        char c = regex.charAt(pos++);
+        switch (c) {
+            case '(':
+                return parseGroup(start);
+            case '[':
+                skipClass();
+                return atom(start, regex.substring(start, pos));
+            case '\\':
+                return parseEscape(start);
+            case '^':
+            case '$':
+                return new Node(start, pos);
+            case '.':
+                return atom(start, ".");
+            default:
+                return atom(start, Pattern.quote(String.valueOf(c)));
+        }
+    }
+
+    @CheckForNull
+    private Node parseGroup(int start) {
+        boolean atomic = false;
+        boolean lookaround = false;
+        if (regex.startsWith("?", pos)) {
+            if (regex.startsWith("?>", pos)) {
+                atomic = true;
+                pos += 2;
+            } else if (regex.startsWith("?=", pos) || regex.startsWith("?!", pos)) {
+                lookaround = true;
+                pos += 2;
+            } else if (regex.startsWith("?<=", pos) || regex.startsWith("?<!", pos)) {
+                lookaround = true;
+                pos += 3;
+            } else if (regex.startsWith("?<", pos)) {
+                pos = regex.indexOf('>', pos) + 1;
+            } else {
+                // inline flags, either (?flags) on their own or a non-capturing (?flags:...) group
+                int end = pos + 1;
+                while (end < regex.length() && regex.charAt(end) != ':' && regex.charAt(end) != ')') {
+                    end++;
+                }
+                pos = Math.min(end + 1, regex.length());
+                if (end >= regex.length() || regex.charAt(end) == ')') {
+                    return null;
+                }
+            }
+        }
+        List<List<Node>> alternatives = parseAlternatives();
+        if (pos < regex.length()) {
+            pos++; // the closing parenthesis
+        }
+        Node node = new Node(start, pos);
+        node.alternatives = alternatives;
+        node.atomic = atomic;
+        node.lookaround = lookaround;
+        return node;
+    }
+
+    private Node parseEscape(int start) {
+        if (pos >= regex.length()) {
+            return new Node(start, pos);
+        }
+        char c = regex.charAt(pos++);
+        switch (c) {
+            case 'Q':
+                int end = regex.indexOf("\\E", pos);
+                String quoted = regex.substring(pos, end < 0 ? regex.length() : end);
+                pos = end < 0 ? regex.length() : end + 2;
+                return quoted.isEmpty() ? new Node(start, pos) : atom(start, Pattern.quote(quoted.substring(0, 1)));
+            case 'p':
+            case 'P':
+            case 'x':
+            case 'k':
+                if (pos < regex.length() && (regex.charAt(pos) == '{' || regex.charAt(pos) == '<')) {
+                    pos = regex.indexOf(regex.charAt(pos) == '{' ? '}' : '>', pos) + 1;
+                } else if (c == 'x') {
+                    pos = Math.min(pos + 2, regex.length());
+                } else {
+                    pos = Math.min(pos + 1, regex.length());
+                }
+                break;
+            case 'u':
+                pos = Math.min(pos + 4, regex.length());
+                break;
+            case 'c':
+                pos = Math.min(pos + 1, regex.length());
+                break;
+            case 'b':
+            case 'B':
+            case 'A':
+            case 'G':
+            case 'Z':
+            case 'z':
+                return new Node(start, pos);
+            default:
+                if (Character.isDigit(c)) {
+                    // back references are not analysed
+                    while (pos < regex.length() && Character.isDigit(regex.charAt(pos))) {
+                        pos++;
+                    }
+                    return new Node(start, pos);
+                }
+                break;
+        }
+        return atom(start, regex.substring(start, pos));
+    }
+
+    private void skipClass() {
+        int depth = 1;
+        if (pos < regex.length() && regex.charAt(pos) == '^') {
+            pos++;
+        }
+        if (pos < regex.length() && regex.charAt(pos) == ']') {
+            pos++;
+        }
+        while (pos < regex.length() && depth > 0) {
+            char c = regex.charAt(pos++);
+            if (c == '\\') {
+                pos++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            }
+        }
+        pos = Math.min(pos, regex.length());
+    }
+
+    private void parseQuantifier(Node node) {
+        if (pos >= regex.length()) {
+            return;
+        }
+        char c = regex.charAt(pos);
+        if (c == '*') {
+            node.min = 0;
+            node.max = -1;
+            pos++;
+        } else if (c == '+') {
+            node.min = 1;
+            node.max = -1;
+            pos++;
+        } else if (c == '?') {
+            node.min = 0;
+            node.max = 1;
+            pos++;
+        } else if (c == '{') {
+            int close = regex.indexOf('}', pos);
+            if (close < 0) {
+                return;
+            }
+            String[] bounds = regex.substring(pos + 1, close).split(",", -1);
+            try {
+                node.min = Integer.parseInt(bounds[0].trim());
+                node.max = bounds.length == 1
+                        ? node.min
+                        : bounds[1].isBlank() ? -1 : Integer.parseInt(bounds[1].trim());
+            } catch (NumberFormatException e) {
+                return;
+            }
+            pos = close + 1;
+        } else {
+            return;
+        }
+        if (pos < regex.length() && regex.charAt(pos) == '+') {
+            node.possessive = true;
+            pos++;
+        } else if (pos < regex.length() && regex.charAt(pos) == '?') {
+            pos++;
+        }
+        node.end = pos;
+    }
+
+    private Node atom(int start, String atom) {
+        atoms.add(atom);
+        Node node = new Node(start, pos);
+        node.atom = atom;
+        return node;
+    }
+
+    /**
+     * A parsed node of the expression.
+     */
+    private static final class Node {
+        private final int start;
+        private int end;
+        /**
+         * The standalone regular expression matching a single character for character atoms.
+         */
+        private String atom;
+        /**
+         * The alternatives for groups.
+         */
+        private List<List<Node>> alternatives;
+
+        private boolean atomic;
+        private boolean lookaround;
+        private int min = 1;
+        private int max = 1;
+        private boolean possessive;
+
+        private Node(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        private boolean unbounded() {
+            return max < 0;
+        }
+
+        private boolean repeats() {
+            return max < 0 || max > 1;
+        }
+
+        private String text(String regex) {
+            return regex.substring(start, end);
+        }
+    }
+}
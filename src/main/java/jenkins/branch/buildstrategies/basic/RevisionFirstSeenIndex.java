@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import jenkins.scm.api.SCMRevision;
+import jenkins.util.SystemProperties;
+
+/**
+ * Remembers when the current revision of each head was first seen, by source ID and head name, so that a revision
+ * can be left alone until the head has stopped changing. Only the latest revision of each head is kept, the index is
+ * kept in memory only and starts empty after a restart.
+ */
+final class RevisionFirstSeenIndex {
+
+    /**
+     * The maximum number of heads to remember, the index is cleared when this is exceeded.
+     */
+    private static final int MAX_SIZE =
+            SystemProperties.getInteger(RevisionFirstSeenIndex.class.getName() + ".maxSize", 100000);
+
+    /**
+     * The latest revision of each head and when it was first seen, by source ID and head name.
+     */
+    private static final ConcurrentMap<String, Seen> SEEN = new ConcurrentHashMap<>();
+
+    private RevisionFirstSeenIndex() {}
+
+    /**
+     * Returns when the revision of the head was first seen, recording it as seen now if the head was last seen at
+     * another revision.
+     *
+     * @param sourceId the source ID.
+     * @param head     the head name.
+     * @param revision the revision, as returned by {@link SCMRevision#toString()}.
+     * @param now      the current time in milliseconds.
+     * @return when the revision of the head was first seen, in milliseconds.
+     */
+    static long firstSeen(@NonNull String sourceId, @NonNull String head, @NonNull String revision, long now) {
+        String key = sourceId + "::" + head;
+        Seen seen = SEEN.get(key);
+        if (seen != null && seen.revision().equals(revision)) {
+            return seen.since();
+        }
+        if (seen == null && SEEN.size() >= MAX_SIZE) {
+            SEEN.clear();
+        }
+        return SEEN.compute(key, (k, v) -> v != null && v.revision().equals(revision) ? v : new Seen(revision, now))
+                .since();
+    }
+
+    /**
+     * A revision and when it was first seen.
+     *
+     * @param revision the revision.
+     * @param since    when the revision was first seen, in milliseconds.
+     */
+    private record Seen(String revision, long since) {}
+}
@@ -0,0 +1,181 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import jenkins.util.SystemProperties;
+
+/**
+ * A <a href="https://semver.org/">semantic version</a>, ordered by precedence. Build metadata is accepted but takes
+ * no part in the ordering.
+ *
+ * @param major      the major version.
+ * @param minor      the minor version.
+ * @param patch      the patch version.
+ * @param prerelease the dot separated pre-release identifiers, empty for a release.
+ */
+record SemanticVersion(long major, long minor, long patch, @NonNull List<String> prerelease)
+        implements Comparable<SemanticVersion> {
+
+    /**
+     * A pre-release identifier, numeric identifiers must not have leading zeros.
+     */
+    private static final String PRERELEASE_IDENTIFIER = "(?:0|[1-9]\\d*|\\d*[A-Za-z-][0-9A-Za-z-]*)";
+
+    /**
+     * A semantic version with an optional {@code v} prefix.
+     */
+    private static final Pattern SYNTAX =
+            Pattern.compile("[vV]?(0|[1-9]\\d{0,17})\\.(0|[1-9]\\d{0,17})\\.(0|[1-9]\\d{0,17})"
+                    + "(?:-(" + PRERELEASE_IDENTIFIER + "(?:\\." + PRERELEASE_IDENTIFIER + ")*))?"
+                    + "(?:\\+[0-9A-Za-z-]+(?:\\.[0-9A-Za-z-]+)*)?");
+
+    /**
+     * The maximum number of parsed names to keep. The cache is cleared when this is exceeded.
+     */
+    private static final int MAX_SIZE =
+            SystemProperties.getInteger(SemanticVersion.class.getName() + ".maxSize", 100000);
+
+    /**
+     * The parsed names, including the names that are not versions, so every scan after the first only looks them up.
+     */
+    private static final ConcurrentMap<String, Optional<SemanticVersion>> CACHE = new ConcurrentHashMap<>();
+
+    SemanticVersion {
+        prerelease = List.copyOf(prerelease);
+    }
+
+    /**
+     * Parses a name as a semantic version, reusing the result of earlier parses of the same name.
+     *
+     * @param name the name, such as a tag name.
+     * @return the version, or {@code null} if the name is not a semantic version.
+     */
+    @CheckForNull
+    static SemanticVersion parse(@NonNull String name) {
+        Optional<SemanticVersion> version = CACHE.get(name);
+        if (version == null) {
+            if (CACHE.size() >= MAX_SIZE) {
+                CACHE.clear();
+            }
+            version = CACHE.computeIfAbsent(name, n -> Optional.ofNullable(parseUncached(n)));
+        }
+        return version.orElse(null);
+    }
+
+    /**
+     * Parses a name as a semantic version.
+     *
+     * @param name the name.
+     * @return the version, or {@code null} if the name is not a semantic version.
+     */
+    @CheckForNull
+    static SemanticVersion parseUncached(@NonNull String name) {
+        Matcher matcher = SYNTAX.matcher(name);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String prerelease = matcher.group(4);
+        return new SemanticVersion(
+                Long.parseLong(matcher.group(1)),
+                Long.parseLong(matcher.group(2)),
+                Long.parseLong(matcher.group(3)),
+                prerelease == null ? List.of() : Arrays.asList(prerelease.split("\\.")));
+    }
+
+    /**
+     * Returns whether this is a pre-release version.
+     *
+     * @return {@code true} if this is a pre-release version.
+     */
+    boolean isPrerelease() {
+        return !prerelease.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@NonNull SemanticVersion that) {
+        int result = Long.compare(major, that.major);
+        if (result == 0) {
+            result = Long.compare(minor, that.minor);
+        }
+        if (result == 0) {
+            result = Long.compare(patch, that.patch);
+        }
+        if (result != 0 || prerelease.equals(that.prerelease)) {
+            return result;
+        }
+        // a release has precedence over its pre-releases
+        if (prerelease.isEmpty() || that.prerelease.isEmpty()) {
+            return prerelease.isEmpty() ? 1 : -1;
+        }
+        for (int i = 0; i < Math.min(prerelease.size(), that.prerelease.size()); i++) {
+            result = compareIdentifiers(prerelease.get(i), that.prerelease.get(i));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(prerelease.size(), that.prerelease.size());
+    }
+
+    private static int compareIdentifiers(String a, String b) {
+        boolean numericA = isNumeric(a);
+        boolean numericB = isNumeric(b);
+        if (numericA && numericB) {
+            // no leading zeros are allowed, so the longer number is the larger
+            return a.length() != b.length() ? Integer.compare(a.length(), b.length()) : a.compareTo(b);
+        }
+        if (numericA || numericB) {
+            return numericA ? -1 : 1;
+        }
+        return a.compareTo(b);
+    }
+
+    private static boolean isNumeric(String identifier) {
+        for (int i = 0; i < identifier.length(); i++) {
+            if (identifier.charAt(i) < '0' || identifier.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return major + "." + minor + "." + patch + (prerelease.isEmpty() ? "" : "-" + String.join(".", prerelease));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A range of {@link SemanticVersion}s, such as {@code >=2.0.0 <3.0.0 || >=3.4.0}. A range is a {@code ||} separated
+ * list of alternatives, each a space separated list of bounds which must all hold. A bound is a version preceded by
+ * one of the operators {@code >=}, {@code >}, {@code <=}, {@code <} or {@code =}, optionally followed by spaces, with
+ * {@code =} assumed when the operator is omitted. A blank range contains every version.
+ */
+final class SemanticVersionRange {
+
+    /**
+     * Matches the whitespace between an operator and its version.
+     */
+    private static final Pattern OPERATOR_SPACE = Pattern.compile("([<>=])\\s+");
+
+    /**
+     * The alternatives, each a list of bounds which must all hold.
+     */
+    private final List<List<Bound>> alternatives;
+
+    private SemanticVersionRange(List<List<Bound>> alternatives) {
+        this.alternatives = alternatives;
+    }
+
+    /**
+     * Parses a range.
+     *
+     * @param expression the range expression.
+     * @return the range.
+     * @throws IllegalArgumentException if the expression is not a valid range.
+     */
+    @NonNull
+    static SemanticVersionRange parse(@NonNull String expression) {
+        List<List<Bound>> alternatives = new ArrayList<>();
+        for (String alternative : expression.split("\\|\\|", -1)) {
+            List<Bound> bounds = new ArrayList<>();
+            // an operator may be separated from its version, as in ">= 2.0.0"
+            for (String bound : OPERATOR_SPACE.matcher(alternative.trim()).replaceAll("$1").split("\\s+")) {
+                if (!bound.isEmpty()) {
+                    bounds.add(Bound.parse(bound));
+                }
+            }
+            if (bounds.isEmpty() && !expression.isBlank()) {
+                throw new IllegalArgumentException("Empty alternative in range: " + expression);
+            }
+            alternatives.add(List.copyOf(bounds));
+        }
+        return new SemanticVersionRange(List.copyOf(alternatives));
+    }
+
+    /**
+     * Checks if the version is in the range.
+     *
+     * @param version the version.
+     * @return {@code true} if the version is in the range.
+     */
+    boolean contains(@NonNull SemanticVersion version) {
+        for (List<Bound> bounds : alternatives) {
+            if (bounds.stream().allMatch(bound -> bound.test(version))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A bound of a range.
+     *
+     * @param operator the comparison operator.
+     * @param version  the version compared with.
+     */
+    private record Bound(String operator, SemanticVersion version) {
+
+        static Bound parse(String bound) {
+            int start = 0;
+            while (start < bound.length() && "<>=".indexOf(bound.charAt(start)) >= 0) {
+                start++;
+            }
+            String operator = bound.substring(0, start);
+            if (!List.of("", "=", ">", ">=", "<", "<=").contains(operator)) {
+                throw new IllegalArgumentException("Unknown operator " + operator + " in " + bound);
+            }
+            SemanticVersion version = SemanticVersion.parseUncached(bound.substring(start));
+            if (version == null) {
+                throw new IllegalArgumentException("Not a semantic version: " + bound.substring(start));
+            }
+            return new Bound(operator, version);
+        }
+
+        boolean test(SemanticVersion candidate) {
+            int result = candidate.compareTo(version);
+            return switch (operator) {
+                case ">" -> result > 0;
+                case ">=" -> result >= 0;
+                case "<" -> result < 0;
+                case "<=" -> result <= 0;
+                default -> result == 0;
+            };
+        }
+    }
+}
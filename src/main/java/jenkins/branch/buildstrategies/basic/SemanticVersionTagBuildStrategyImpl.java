@@ -0,0 +1,217 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.TaskListener;
+import hudson.util.FormValidation;
+import hudson.util.LogTaskListener;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.branch.BranchBuildStrategy;
+import jenkins.branch.BranchBuildStrategyDescriptor;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMSource;
+import jenkins.scm.api.mixin.TagSCMHead;
+import org.jenkinsci.Symbol;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+
+/**
+ * A {@link BranchBuildStrategy} that builds tags whose names are semantic versions within a range, such as
+ * {@code >=2.0.0 <3.0.0}.
+ */
+public class SemanticVersionTagBuildStrategyImpl extends BranchBuildStrategy {
+
+    /**
+     * Our logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SemanticVersionTagBuildStrategyImpl.class.getName());
+
+    @NonNull
+    private final String range;
+
+    private final boolean includePrereleases;
+
+    /**
+     * Our constructor.
+     *
+     * @param range              the range of versions to build, see {@link SemanticVersionRange}, blank to build
+     *                           every version.
+     * @param includePrereleases {@code true} to also build pre-release versions within the range.
+     */
+    @DataBoundConstructor
+    public SemanticVersionTagBuildStrategyImpl(@CheckForNull String range, boolean includePrereleases) {
+        this.range = Util.fixNull(range).trim();
+        this.includePrereleases = includePrereleases;
+    }
+
+    @NonNull
+    public String getRange() {
+        return range;
+    }
+
+    public boolean isIncludePrereleases() {
+        return includePrereleases;
+    }
+
+    private SemanticVersionRange compiledRange() {
+        return CompiledMatchers.get(SemanticVersionRange.class, range, true, SemanticVersionRange::parse);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision) {
+        return isAutomaticBuild(
+                source,
+                head,
+                currRevision,
+                prevRevision,
+                new LogTaskListener(Logger.getLogger(getClass().getName()), Level.INFO));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision,
+            @NonNull TaskListener taskListener) {
+        return isAutomaticBuild(source, head, currRevision, prevRevision, prevRevision, taskListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision lastBuiltRevision,
+            @CheckForNull SCMRevision lastSeenRevision,
+            @NonNull TaskListener taskListener) {
+        if (!(head instanceof TagSCMHead)) {
+            return false;
+        }
+        SemanticVersion version = SemanticVersion.parse(head.getName());
+        if (version == null || (version.isPrerelease() && !includePrereleases)) {
+            return false;
+        }
+        SemanticVersionRange range;
+        try {
+            range = compiledRange();
+        } catch (IllegalArgumentException e) {
+            String message = String.format("Invalid version range '%s', not building %s", this.range, head.getName());
+            LOGGER.log(Level.WARNING, message, e);
+            taskListener.getLogger().println(message + ": " + e.getMessage());
+            return false;
+        }
+        return range.contains(version);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        SemanticVersionTagBuildStrategyImpl that = (SemanticVersionTagBuildStrategyImpl) o;
+
+        return includePrereleases == that.includePrereleases && range.equals(that.range);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(range, includePrereleases);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "SemanticVersionTagBuildStrategyImpl{" + "range='" + range + '\'' + ", includePrereleases="
+                + includePrereleases + '}';
+    }
+
+    /**
+     * Our descriptor.
+     */
+    @Symbol("buildSemanticVersionTags")
+    @Extension
+    public static class DescriptorImpl extends BranchBuildStrategyDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public String getDisplayName() {
+            return Messages.SemanticVersionTagBuildStrategyImpl_displayName();
+        }
+
+        /**
+         * Form validation for the range.
+         *
+         * @param value the range.
+         * @return the validation results.
+         */
+        @Restricted(NoExternalUse.class) // stapler
+        public FormValidation doCheckRange(@QueryParameter String value) {
+            try {
+                SemanticVersionRange.parse(Util.fixNull(value).trim());
+                return FormValidation.ok();
+            } catch (IllegalArgumentException e) {
+                return FormValidation.error(e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.TaskListener;
+import hudson.util.FormValidation;
+import hudson.util.LogTaskListener;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.branch.BranchBuildStrategy;
+import jenkins.branch.BranchBuildStrategyDescriptor;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMSource;
+import org.jenkinsci.Symbol;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+
+/**
+ * A {@link BranchBuildStrategy} that does not build a revision which any job on the controller has built successfully
+ * within a configurable number of minutes, such as a branch and its change request, a mirror of a repository or a
+ * tag and its release branch. This includes a new branch created at the commit of another branch and a tag on a
+ * commit that a change request has built. Only the builds of sources that use this strategy are taken into account.
+ * Intended to be combined with other strategies through {@link AllBranchBuildStrategyImpl}.
+ */
+public class SkipRecentlyBuiltRevisionBuildStrategyImpl extends BranchBuildStrategy {
+
+    private final int withinMinutes;
+
+    /**
+     * Our constructor.
+     *
+     * @param withinMinutes the number of minutes after a successful build of a revision during which the revision is
+     *                      not built again, {@code 0} to always build.
+     */
+    @DataBoundConstructor
+    public SkipRecentlyBuiltRevisionBuildStrategyImpl(int withinMinutes) {
+        this.withinMinutes = Math.max(0, withinMinutes);
+    }
+
+    public int getWithinMinutes() {
+        return withinMinutes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision) {
+        return isAutomaticBuild(
+                source,
+                head,
+                currRevision,
+                prevRevision,
+                new LogTaskListener(Logger.getLogger(getClass().getName()), Level.INFO));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Deprecated
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision prevRevision,
+            @NonNull TaskListener taskListener) {
+        return isAutomaticBuild(source, head, currRevision, prevRevision, prevRevision, taskListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAutomaticBuild(
+            @NonNull SCMSource source,
+            @NonNull SCMHead head,
+            @NonNull SCMRevision currRevision,
+            @CheckForNull SCMRevision lastBuiltRevision,
+            @CheckForNull SCMRevision lastSeenRevision,
+            @NonNull TaskListener listener) {
+        if (withinMinutes == 0) {
+            return true;
+        }
+        // builds are only recorded for the sources that ask
+        RecentRevisionIndex.optIn(source.getId());
+        long lastBuilt = RecentRevisionIndex.get().lastBuilt(currRevision.toString());
+        if (lastBuilt < 0L) {
+            return true;
+        }
+        long age = Math.max(0L, System.currentTimeMillis() - lastBuilt);
+        if (age >= TimeUnit.MINUTES.toMillis(withinMinutes)) {
+            return true;
+        }
+        listener.getLogger()
+                .format(
+                        "Not building %s as revision %s was built successfully %s ago%n",
+                        head.getName(), currRevision, Util.getTimeSpanString(age));
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        SkipRecentlyBuiltRevisionBuildStrategyImpl that = (SkipRecentlyBuiltRevisionBuildStrategyImpl) o;
+
+        return withinMinutes == that.withinMinutes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return withinMinutes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "SkipRecentlyBuiltRevisionBuildStrategyImpl{" + "withinMinutes=" + withinMinutes + '}';
+    }
+
+    /**
+     * Our descriptor.
+     */
+    @Symbol("skipRecentlyBuiltRevisions")
+    @Extension
+    public static class DescriptorImpl extends BranchBuildStrategyDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public String getDisplayName() {
+            return Messages.SkipRecentlyBuiltRevisionBuildStrategyImpl_displayName();
+        }
+
+        /**
+         * Form validation for the number of minutes.
+         *
+         * @param value the number of minutes.
+         * @return the validation results.
+         */
+        @Restricted(NoExternalUse.class) // stapler
+        public FormValidation doCheckWithinMinutes(@QueryParameter String value) {
+            return FormValidation.validateNonNegativeInteger(value);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.TaskListener;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMHeadObserver;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMSource;
+import jenkins.scm.api.mixin.TagSCMHead;
+import jenkins.util.SystemProperties;
+
+/**
+ * Short lived snapshots of the tags of each {@link SCMSource}, for the options of {@link TagBuildStrategyImpl} which
+ * compare a tag with the other tags of the same source. Branch indexing asks the strategy about one tag at a time, so
+ * the tags are fetched from the source on the first question and the snapshot is reused until it is
+ * {@link #TTL_MILLIS} old. The SCM API cannot ask a source for its tags alone, so each fetch is a full retrieval of
+ * the source that lists every branch, change request and tag, of which only the tags are kept. An indexing pass thus
+ * pays for one extra full retrieval per source, and one more for every {@link #TTL_MILLIS} that the pass takes. Events
+ * should use {@link #last(SCMSource)} rather than pay for a full retrieval to answer a question about a single tag.
+ * Concurrent questions about the same source share a single fetch, which is rate limited by
+ * {@link TrustCheckRateLimiter} like the other calls the strategies make to the source.
+ */
+final class SourceTagIndex {
+
+    /**
+     * How long a snapshot is reused before the tags are fetched again.
+     */
+    static final long TTL_MILLIS = SystemProperties.getLong(SourceTagIndex.class.getName() + ".ttlMillis", 60000L);
+
+    /**
+     * The maximum number of sources to keep snapshots for, all snapshots are dropped when this is exceeded.
+     */
+    private static final int MAX_SOURCES =
+            SystemProperties.getInteger(SourceTagIndex.class.getName() + ".maxSources", 1000);
+
+    /**
+     * The indexes by source ID.
+     */
+    private static final ConcurrentMap<String, SourceTagIndex> INDEXES = new ConcurrentHashMap<>();
+
+    /**
+     * The current or in progress fetch of the snapshot, guarded by {@code this} so that concurrent questions only
+     * fetch the tags once. The fetch itself runs outside the lock.
+     */
+    @CheckForNull
+    private CompletableFuture<Snapshot> snapshot;
+
+    /**
+     * The last snapshot fetched, kept however old it is.
+     */
+    @CheckForNull
+    private volatile Snapshot last;
+
+    private SourceTagIndex() {}
+
+    /**
+     * Returns a recent snapshot of the tags of the source, fetching the tags if there is none.
+     *
+     * @param source   the source.
+     * @param listener the listener to report the fetch to.
+     * @return the snapshot.
+     * @throws IOException          if the tags could not be fetched.
+     * @throws InterruptedException if interrupted while fetching the tags.
+     */
+    @NonNull
+    static Snapshot get(@NonNull SCMSource source, @NonNull TaskListener listener)
+            throws IOException, InterruptedException {
+        SourceTagIndex index = INDEXES.get(source.getId());
+        if (index == null) {
+            if (INDEXES.size() >= MAX_SOURCES) {
+                INDEXES.clear();
+            }
+            index = INDEXES.computeIfAbsent(source.getId(), id -> new SourceTagIndex());
+        }
+        return index.snapshot(source, listener);
+    }
+
+    /**
+     * Returns the last snapshot of the tags of the source however old it is, without fetching the tags.
+     *
+     * @param source the source.
+     * @return the last snapshot, or {@code null} if the tags have not been fetched.
+     */
+    @CheckForNull
+    static Snapshot last(@NonNull SCMSource source) {
+        SourceTagIndex index = INDEXES.get(source.getId());
+        return index == null ? null : index.last;
+    }
+
+    private Snapshot snapshot(SCMSource source, TaskListener listener) throws IOException, InterruptedException {
+        long now = System.nanoTime();
+        CompletableFuture<Snapshot> fetch;
+        boolean fetching = false;
+        synchronized (this) {
+            Snapshot current = snapshot == null ? null : snapshot.getNow(null);
+            // a fetch in progress is joined however long it takes, a completed one is reused until it is too old
+            if (snapshot == null
+                    || current != null && now - current.fetchedNanos >= TimeUnit.MILLISECONDS.toNanos(TTL_MILLIS)) {
+                snapshot = new CompletableFuture<>();
+                fetching = true;
+            }
+            fetch = snapshot;
+        }
+        if (!fetching) {
+            try {
+                return fetch.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw new IOException(cause.getMessage(), cause);
+                }
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                // the thread performing the fetch was interrupted, that is no reason to fail this question
+                return snapshot(source, listener);
+            }
+        }
+        try {
+            TrustCheckRateLimiter.acquire(source, listener);
+            Snapshot fetched = new Snapshot(now, source.fetch(new TagCollector(), listener).tags);
+            last = fetched;
+            fetch.complete(fetched);
+            return fetched;
+        } catch (IOException | InterruptedException | RuntimeException | Error e) {
+            // failures are not kept, the next question fetches again
+            synchronized (this) {
+                if (snapshot == fetch) {
+                    snapshot = null;
+                }
+            }
+            fetch.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * A tag of a source.
+     *
+     * @param name      the name of the tag.
+     * @param timestamp the timestamp of the tag.
+     * @param revision  the revision of the tag, as returned by {@link SCMRevision#toString()}.
+     */
+    record Tag(@NonNull String name, long timestamp, @NonNull String revision) {}
+
+    /**
+     * The tags of a source at a point in time.
+     */
+    static final class Snapshot {
+        private final long fetchedNanos;
+        private final Map<String, List<Tag>> byRevision;
+        private final long[] timestamps;
+
+        /**
+         * The results of {@link #oldestOfNewest(int)} by count, so the tags are only ranked once per pass.
+         */
+        private final ConcurrentMap<Integer, Long> oldestOfNewest = new ConcurrentHashMap<>();
+
+        Snapshot(long fetchedNanos, @NonNull List<Tag> tags) {
+            this.fetchedNanos = fetchedNanos;
+            Map<String, List<Tag>> byRevision = new HashMap<>();
+            long[] timestamps = new long[tags.size()];
+            for (int i = 0; i < timestamps.length; i++) {
+                Tag tag = tags.get(i);
+                byRevision.computeIfAbsent(tag.revision(), r -> new ArrayList<>(1)).add(tag);
+                timestamps[i] = tag.timestamp();
+            }
+            this.byRevision = byRevision;
+            this.timestamps = timestamps;
+        }
+
+        /**
+         * Returns the tags at the revision.
+         *
+         * @param revision the revision, as returned by {@link SCMRevision#toString()}.
+         * @return the tags at the revision.
+         */
+        @NonNull
+        List<Tag> atRevision(@NonNull String revision) {
+            return Collections.unmodifiableList(byRevision.getOrDefault(revision, Collections.emptyList()));
+        }
+
+        /**
+         * Returns the timestamp of the oldest of the newest tags.
+         *
+         * @param count the number of newest tags.
+         * @return the timestamp of the {@code count}th newest tag, or {@link Long#MIN_VALUE} if there are fewer tags.
+         */
+        long oldestOfNewest(int count) {
+            return oldestOfNewest.computeIfAbsent(count, this::rank);
+        }
+
+        private long rank(int count) {
+            if (timestamps.length < count) {
+                return Long.MIN_VALUE;
+            }
+            // a min-heap of the newest timestamps seen so far, so most tags are rejected after a single comparison
+            PriorityQueue<Long> newest = new PriorityQueue<>(count);
+            for (long timestamp : timestamps) {
+                if (newest.size() < count) {
+                    newest.add(timestamp);
+                } else if (timestamp > newest.peek()) {
+                    newest.poll();
+                    newest.add(timestamp);
+                }
+            }
+            return newest.peek();
+        }
+    }
+
+    /**
+     * Collects the tags observed by a source, ignoring the other heads.
+     */
+    private static final class TagCollector extends SCMHeadObserver {
+        private final List<Tag> tags = new ArrayList<>();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void observe(@NonNull SCMHead head, @NonNull SCMRevision revision) {
+            if (head instanceof TagSCMHead tag) {
+                tags.add(new Tag(head.getName(), tag.getTimestamp(), revision.toString()));
+            }
+        }
+    }
+}
@@ -29,29 +29,50 @@ import hudson.Extension;
 import hudson.Util;
 import hudson.model.TaskListener;
 import hudson.util.LogTaskListener;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jenkins.branch.BranchBuildStrategy;
 import jenkins.branch.BranchBuildStrategyDescriptor;
+import jenkins.branch.MultiBranchProject;
+import jenkins.branch.buildstrategies.basic.NamedBranchBuildStrategyImpl.NameFilter;
 import jenkins.scm.api.SCMHead;
 import jenkins.scm.api.SCMRevision;
 import jenkins.scm.api.SCMSource;
+import jenkins.scm.api.SCMSourceOwner;
 import jenkins.scm.api.mixin.TagSCMHead;
 import org.apache.commons.lang3.StringUtils;
 import org.jenkinsci.Symbol;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.DoNotUse;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
 
 /**
  * A {@link BranchBuildStrategy} that builds tags.
  *
  * @since 1.0.0
  */
-public class TagBuildStrategyImpl extends BranchBuildStrategy {
+public class TagBuildStrategyImpl extends BranchBuildStrategy implements NameFilterContainer {
     private final long atLeastMillis;
     private final long atMostMillis;
+    private boolean oneTagPerRevision;
+
+    @CheckForNull
+    private String tagPriority;
+
+    private int newestTags;
+    private boolean ignoreOlderThanBuilt;
+
+    @NonNull
+    private List<NameFilter> filters = new ArrayList<>();
 
     /**
      * Our constructor.
@@ -81,6 +102,18 @@ public class TagBuildStrategyImpl extends BranchBuildStrategy {
         this.atMostMillis = atMost == null || atMost.longValue() < 0L ? -1L : unit.toMillis(atMost.longValue());
     }
 
+    /**
+     * Fills in the fields added since the configuration was saved.
+     *
+     * @return the instance to use.
+     */
+    protected Object readResolve() {
+        if (filters == null) {
+            filters = new ArrayList<>();
+        }
+        return this;
+    }
+
     @Restricted(DoNotUse.class) // stapler form binding only
     @NonNull
     public String getAtLeastDays() {
@@ -101,6 +134,87 @@ public class TagBuildStrategyImpl extends BranchBuildStrategy {
         return atMostMillis;
     }
 
+    public boolean isOneTagPerRevision() {
+        return oneTagPerRevision;
+    }
+
+    /**
+     * Sets whether to only build one of the tags that point at the same revision.
+     *
+     * @param oneTagPerRevision {@code true} to only build one of the tags that point at the same revision.
+     */
+    @DataBoundSetter
+    public void setOneTagPerRevision(boolean oneTagPerRevision) {
+        this.oneTagPerRevision = oneTagPerRevision;
+    }
+
+    @CheckForNull
+    public String getTagPriority() {
+        return tagPriority;
+    }
+
+    /**
+     * Sets the tags to prefer when several point at the same revision.
+     *
+     * @param tagPriority space separated wildcards in order of preference, blank to choose the newest tag.
+     */
+    @DataBoundSetter
+    public void setTagPriority(@CheckForNull String tagPriority) {
+        this.tagPriority = Util.fixEmptyAndTrim(tagPriority);
+    }
+
+    public int getNewestTags() {
+        return newestTags;
+    }
+
+    /**
+     * Sets the number of newest tags of the source to consider for automatic build.
+     *
+     * @param newestTags the number of newest tags, {@code 0} to consider all tags.
+     */
+    @DataBoundSetter
+    public void setNewestTags(int newestTags) {
+        this.newestTags = Math.max(0, newestTags);
+    }
+
+    public boolean isIgnoreOlderThanBuilt() {
+        return ignoreOlderThanBuilt;
+    }
+
+    /**
+     * Sets whether to ignore tags older than the newest tag already built by the project.
+     *
+     * @param ignoreOlderThanBuilt {@code true} to ignore tags older than the newest built tag.
+     */
+    @DataBoundSetter
+    public void setIgnoreOlderThanBuilt(boolean ignoreOlderThanBuilt) {
+        this.ignoreOlderThanBuilt = ignoreOlderThanBuilt;
+    }
+
+    @NonNull
+    public List<NameFilter> getFilters() {
+        return Collections.unmodifiableList(filters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Restricted(NoExternalUse.class)
+    public void collectNameFilters(@NonNull Set<NameFilter> filters) {
+        filters.addAll(this.filters);
+    }
+
+    /**
+     * Sets the filters the tag name must match.
+     *
+     * @param filters the filters, empty to consider tags of any name.
+     */
+    @DataBoundSetter
+    public void setFilters(@CheckForNull List<NameFilter> filters) {
+        this.filters = new ArrayList<>(Util.fixNull(filters));
+    }
+
     @CheckForNull
     public Long getAtLeast(@NonNull TimeUnit unit) {
         return atLeastMillis >= 0L ? unit.convert(atLeastMillis, TimeUnit.MILLISECONDS) : null;
@@ -157,13 +271,58 @@ public class TagBuildStrategyImpl extends BranchBuildStrategy {
         if (!(head instanceof TagSCMHead)) {
             return false;
         }
+        if (!filters.isEmpty() && !isNameMatch(head.getName(), taskListener)) {
+            return false;
+        }
+        if (ignoreOlderThanBuilt) {
+            TagHighWaterMarkAction.optIn(source.getId());
+            if (isOlderThanBuilt(source, (TagSCMHead) head, taskListener)) {
+                return false;
+            }
+        }
+        if (!isWithinAge(((TagSCMHead) head).getTimestamp(), System.currentTimeMillis())) {
+            return false;
+        }
+        if (newestTags > 0 && !isNewest(source, (TagSCMHead) head, taskListener)) {
+            return false;
+        }
+        if (oneTagPerRevision) {
+            return isChosenForRevision(source, (TagSCMHead) head, currRevision, taskListener);
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the tag name matches any of the {@link #filters}.
+     *
+     * @param name     the tag name.
+     * @param listener the listener to report slow matches to.
+     * @return {@code true} if the tag name matches.
+     */
+    private boolean isNameMatch(@NonNull String name, @NonNull TaskListener listener) {
+        for (NameFilter filter : filters) {
+            if (filter.isMatch(name, listener)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the tag is within the {@link #atLeastMillis} and {@link #atMostMillis} age window.
+     *
+     * @param timestamp the timestamp of the tag.
+     * @param now       the current time.
+     * @return {@code true} if the tag is within the age window.
+     */
+    private boolean isWithinAge(long timestamp, long now) {
         if (atLeastMillis >= 0L || atMostMillis >= 0L) {
             if (atMostMillis >= 0L && atLeastMillis > atMostMillis) {
                 // stupid configuration that corresponds to never building anything, why did the user add it against
                 // our advice?
                 return false;
             }
-            long tagAge = System.currentTimeMillis() - ((TagSCMHead) head).getTimestamp();
+            long tagAge = now - timestamp;
             if (atMostMillis >= 0L && tagAge > atMostMillis) {
                 return false;
             }
@@ -174,6 +333,195 @@ public class TagBuildStrategyImpl extends BranchBuildStrategy {
         return true;
     }
 
+    /**
+     * Returns the timestamp of the newest tag the project has built from the source.
+     *
+     * @param source the source.
+     * @return the timestamp of the newest built tag, or {@link Long#MIN_VALUE} if none has been built.
+     */
+    private static long highWaterMark(@NonNull SCMSource source) {
+        if (!(source.getOwner() instanceof MultiBranchProject<?, ?> project)) {
+            return Long.MIN_VALUE;
+        }
+        TagHighWaterMarkAction marks = project.getAction(TagHighWaterMarkAction.class);
+        return marks == null ? Long.MIN_VALUE : marks.getMark(source.getId());
+    }
+
+    /**
+     * Checks if the tag is older than the newest tag the project has built from the source.
+     *
+     * @param source   the source.
+     * @param head     the tag.
+     * @param listener the listener to report to.
+     * @return {@code true} if the tag should not be built.
+     */
+    private static boolean isOlderThanBuilt(
+            @NonNull SCMSource source, @NonNull TagSCMHead head, @NonNull TaskListener listener) {
+        if (head.getTimestamp() >= highWaterMark(source)) {
+            return false;
+        }
+        listener.getLogger()
+                .format("Not building tag %s as it is older than the newest built tag%n", head.getName());
+        return true;
+    }
+
+    /**
+     * Returns the tags of the source to compare a tag with. Branch indexing asks about every tag, so the tags are
+     * listed at most once per pass, while an event asks about a single tag and reuses the tags listed by the last
+     * branch indexing rather than listing the whole source again.
+     *
+     * @param source   the source.
+     * @param listener the listener to report to.
+     * @return the tags, or {@code null} if an event asks before any branch indexing has listed them.
+     * @throws IOException          if the tags could not be listed.
+     * @throws InterruptedException if interrupted while listing the tags.
+     */
+    @CheckForNull
+    private static SourceTagIndex.Snapshot tags(@NonNull SCMSource source, @NonNull TaskListener listener)
+            throws IOException, InterruptedException {
+        SCMSourceOwner owner = source.getOwner();
+        if (owner != null && BuildBudgetBuildStrategyImpl.indexing(owner) == null) {
+            return SourceTagIndex.last(source);
+        }
+        return SourceTagIndex.get(source, listener);
+    }
+
+    /**
+     * Checks if the tag is one of the {@link #newestTags} newest tags of the source.
+     *
+     * @param source   the source.
+     * @param head     the tag.
+     * @param listener the listener to report to.
+     * @return {@code true} if the tag should be built.
+     */
+    private boolean isNewest(@NonNull SCMSource source, @NonNull TagSCMHead head, @NonNull TaskListener listener) {
+        long oldest;
+        try {
+            SourceTagIndex.Snapshot snapshot = tags(source, listener);
+            if (snapshot == null) {
+                return true;
+            }
+            oldest = snapshot.oldestOfNewest(newestTags);
+        } catch (IOException e) {
+            listener.getLogger().println("Could not list the tags of the source: " + e.getMessage());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        // a tag created since the snapshot is newer than all of the snapshot
+        if (head.getTimestamp() >= oldest) {
+            return true;
+        }
+        listener.getLogger()
+                .format("Not building tag %s as it is not one of the %d newest tags%n", head.getName(), newestTags);
+        return false;
+    }
+
+    /**
+     * Checks if the tag is the one to build among the tags of the source that point at the same revision.
+     *
+     * @param source       the source.
+     * @param head         the tag.
+     * @param currRevision the revision of the tag.
+     * @param listener     the listener to report to.
+     * @return {@code true} if the tag should be built.
+     */
+    private boolean isChosenForRevision(
+            @NonNull SCMSource source,
+            @NonNull TagSCMHead head,
+            @NonNull SCMRevision currRevision,
+            @NonNull TaskListener listener) {
+        String revision = currRevision.toString();
+        SourceTagIndex.Tag chosen = new SourceTagIndex.Tag(head.getName(), head.getTimestamp(), revision);
+        try {
+            SourceTagIndex.Snapshot snapshot = tags(source, listener);
+            if (snapshot == null) {
+                return true;
+            }
+            long mark = ignoreOlderThanBuilt ? highWaterMark(source) : Long.MIN_VALUE;
+            long now = System.currentTimeMillis();
+            for (SourceTagIndex.Tag tag : snapshot.atRevision(revision)) {
+                if (!tag.name().equals(chosen.name())
+                        && isCandidate(tag, snapshot, mark, now)
+                        && compareForRevision(tag, chosen) < 0) {
+                    chosen = tag;
+                }
+            }
+        } catch (IOException e) {
+            // better to build the same revision twice than to not build it at all
+            listener.getLogger().println("Could not list the tags of the source: " + e.getMessage());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        if (chosen.name().equals(head.getName())) {
+            return true;
+        }
+        listener.getLogger()
+                .format(
+                        "Not building tag %s as tag %s points at the same revision %s%n",
+                        head.getName(), chosen.name(), revision);
+        return false;
+    }
+
+    /**
+     * Checks if another tag at the same revision passes the other checks of this strategy, so that a tag which would
+     * not be built itself is never chosen over one which would.
+     *
+     * @param tag      the other tag.
+     * @param snapshot the snapshot of the tags of the source.
+     * @param mark     the timestamp of the newest built tag, or {@link Long#MIN_VALUE} to ignore it.
+     * @param now      the current time.
+     * @return {@code true} if the other tag could be built.
+     */
+    private boolean isCandidate(
+            @NonNull SourceTagIndex.Tag tag, @NonNull SourceTagIndex.Snapshot snapshot, long mark, long now) {
+        if (!filters.isEmpty() && !isNameMatch(tag.name(), TaskListener.NULL)) {
+            return false;
+        }
+        if (tag.timestamp() < mark || !isWithinAge(tag.timestamp(), now)) {
+            return false;
+        }
+        return newestTags <= 0 || tag.timestamp() >= snapshot.oldestOfNewest(newestTags);
+    }
+
+    /**
+     * Orders tags by preference for building: by {@link #tagPriority}, then newest first, then by name.
+     *
+     * @param a the first tag.
+     * @param b the second tag.
+     * @return a negative number if the first tag is preferred.
+     */
+    private int compareForRevision(@NonNull SourceTagIndex.Tag a, @NonNull SourceTagIndex.Tag b) {
+        int result = Integer.compare(priority(a.name()), priority(b.name()));
+        if (result == 0) {
+            result = Long.compare(b.timestamp(), a.timestamp());
+        }
+        return result != 0 ? result : a.name().compareTo(b.name());
+    }
+
+    /**
+     * Returns the index of the first {@link #tagPriority} wildcard that matches the name.
+     *
+     * @param name the tag name.
+     * @return the index of the first matching wildcard, or the number of wildcards if none match.
+     */
+    private int priority(@NonNull String name) {
+        if (tagPriority == null) {
+            return 0;
+        }
+        String[] wildcards = tagPriority.split("\\s+");
+        for (int i = 0; i < wildcards.length; i++) {
+            String regex = NamedBranchBuildStrategyImpl.WildcardsNameFilter.getPattern(wildcards[i]);
+            if (CompiledMatchers.pattern(regex, true).matcher(name).matches()) {
+                return i;
+            }
+        }
+        return wildcards.length;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -191,6 +539,21 @@ public class TagBuildStrategyImpl extends BranchBuildStrategy {
         if (atLeastMillis != that.atLeastMillis) {
             return false;
         }
+        if (oneTagPerRevision != that.oneTagPerRevision) {
+            return false;
+        }
+        if (!Objects.equals(tagPriority, that.tagPriority)) {
+            return false;
+        }
+        if (newestTags != that.newestTags) {
+            return false;
+        }
+        if (ignoreOlderThanBuilt != that.ignoreOlderThanBuilt) {
+            return false;
+        }
+        if (!filters.equals(that.filters)) {
+            return false;
+        }
         return atMostMillis == that.atMostMillis;
     }
 
@@ -201,6 +564,11 @@ public class TagBuildStrategyImpl extends BranchBuildStrategy {
     public int hashCode() {
         int result = (int) (atLeastMillis ^ (atLeastMillis >>> 32));
         result = 31 * result + (int) (atMostMillis ^ (atMostMillis >>> 32));
+        result = 31 * result + (oneTagPerRevision ? 1 : 0);
+        result = 31 * result + Objects.hashCode(tagPriority);
+        result = 31 * result + newestTags;
+        result = 31 * result + (ignoreOlderThanBuilt ? 1 : 0);
+        result = 31 * result + filters.hashCode();
         return result;
     }
 
@@ -211,7 +579,11 @@ public class TagBuildStrategyImpl extends BranchBuildStrategy {
     public String toString() {
         return "TagBuildStrategyImpl{" + "atLeast="
                 + (atLeastMillis >= 0L ? Util.getTimeSpanString(atLeastMillis) : "n/a") + ", atMost="
-                + (atMostMillis >= 0L ? Util.getTimeSpanString(atMostMillis) : "n/a") + '}';
+                + (atMostMillis >= 0L ? Util.getTimeSpanString(atMostMillis) : "n/a")
+                + (oneTagPerRevision ? ", oneTagPerRevision, tagPriority=" + tagPriority : "")
+                + (newestTags > 0 ? ", newestTags=" + newestTags : "")
+                + (ignoreOlderThanBuilt ? ", ignoreOlderThanBuilt" : "")
+                + (filters.isEmpty() ? "" : ", filters=" + filters) + '}';
     }
 
     /**
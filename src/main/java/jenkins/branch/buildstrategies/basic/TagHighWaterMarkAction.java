@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.InvisibleAction;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.RunListener;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.branch.MultiBranchProject;
+import jenkins.scm.api.SCMRevisionAction;
+import jenkins.scm.api.mixin.TagSCMHead;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Remembers, for each source of a {@link MultiBranchProject}, the timestamp of the newest tag that has been built, so
+ * that {@link TagBuildStrategyImpl} can skip older tags after a migration or a rescan. The marks are only recorded for
+ * the sources whose tag strategy ignores older tags, are saved with the project and only ever move forward.
+ */
+@Restricted(NoExternalUse.class)
+public class TagHighWaterMarkAction extends InvisibleAction {
+
+    private static final Logger LOGGER = Logger.getLogger(TagHighWaterMarkAction.class.getName());
+
+    /**
+     * Guards adding the action to a project.
+     */
+    private static final Object LOCK = new Object();
+
+    /**
+     * The ids of the sources whose tag builds are recorded.
+     */
+    private static final Set<String> SOURCES = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The timestamp of the newest built tag by source ID.
+     */
+    private final Map<String, Long> marks = new ConcurrentHashMap<>();
+
+    /**
+     * Records the tag builds of the source from now on.
+     *
+     * @param sourceId the id of the source.
+     */
+    static void optIn(@NonNull String sourceId) {
+        SOURCES.add(sourceId);
+    }
+
+    /**
+     * Checks if the tag builds of the source are recorded.
+     *
+     * @param sourceId the id of the source.
+     * @return {@code true} if a strategy of the source has opted in.
+     */
+    static boolean isOptedIn(@CheckForNull String sourceId) {
+        return sourceId != null && SOURCES.contains(sourceId);
+    }
+
+    /**
+     * Returns the timestamp of the newest tag built from the source.
+     *
+     * @param sourceId the source ID.
+     * @return the timestamp of the newest built tag, or {@link Long#MIN_VALUE} if no tag has been built.
+     */
+    public long getMark(@NonNull String sourceId) {
+        return marks.getOrDefault(sourceId, Long.MIN_VALUE);
+    }
+
+    /**
+     * Moves the mark of the source forward to the timestamp.
+     *
+     * @param sourceId  the source ID.
+     * @param timestamp the timestamp of a built tag.
+     * @return {@code true} if the mark moved.
+     */
+    boolean advance(@NonNull String sourceId, long timestamp) {
+        if (getMark(sourceId) >= timestamp) {
+            return false;
+        }
+        marks.merge(sourceId, timestamp, Math::max);
+        return true;
+    }
+
+    /**
+     * Moves the high-water mark forward when a tag build of a source that opted in starts.
+     */
+    @Restricted(NoExternalUse.class)
+    @Extension
+    public static class RunListenerImpl extends RunListener<Run<?, ?>> {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onStarted(Run<?, ?> run, TaskListener listener) {
+            SCMRevisionAction action = run.getAction(SCMRevisionAction.class);
+            if (action == null
+                    || !isOptedIn(action.getSourceId())
+                    || !(action.getRevision().getHead() instanceof TagSCMHead tag)
+                    || !(run.getParent().getParent() instanceof MultiBranchProject<?, ?> project)) {
+                return;
+            }
+            TagHighWaterMarkAction marks;
+            synchronized (LOCK) {
+                marks = project.getAction(TagHighWaterMarkAction.class);
+                if (marks == null) {
+                    marks = new TagHighWaterMarkAction();
+                    project.addAction(marks);
+                }
+            }
+            if (marks.advance(action.getSourceId(), tag.getTimestamp())) {
+                try {
+                    project.save();
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Could not save the tag high-water mark of " + project.getFullName(), e);
+                }
+            }
+        }
+    }
+}
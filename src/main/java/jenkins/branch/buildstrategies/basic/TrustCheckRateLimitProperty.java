@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import com.cloudbees.hudson.plugins.folder.AbstractFolder;
+import com.cloudbees.hudson.plugins.folder.AbstractFolderProperty;
+import com.cloudbees.hudson.plugins.folder.AbstractFolderPropertyDescriptor;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.util.FormValidation;
+import org.jenkinsci.Symbol;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+
+/**
+ * Limits the rate of the change request trust checks made against each source of the multibranch projects in a
+ * folder.
+ */
+public class TrustCheckRateLimitProperty extends AbstractFolderProperty<AbstractFolder<?>> {
+
+    /**
+     * The number of trust checks per minute allowed for each source, or {@code 0} for no limit.
+     */
+    private final int checksPerMinute;
+
+    /**
+     * Our constructor.
+     *
+     * @param checksPerMinute the number of trust checks per minute allowed for each source, or {@code 0} for no limit.
+     */
+    @DataBoundConstructor
+    public TrustCheckRateLimitProperty(int checksPerMinute) {
+        this.checksPerMinute = Math.max(0, checksPerMinute);
+    }
+
+    public int getChecksPerMinute() {
+        return checksPerMinute;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        TrustCheckRateLimitProperty that = (TrustCheckRateLimitProperty) o;
+
+        return checksPerMinute == that.checksPerMinute;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return checksPerMinute;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "TrustCheckRateLimitProperty{" + "checksPerMinute=" + checksPerMinute + '}';
+    }
+
+    /**
+     * Our descriptor.
+     */
+    @Symbol("trustCheckRateLimit")
+    @Extension
+    public static class DescriptorImpl extends AbstractFolderPropertyDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public String getDisplayName() {
+            return Messages.TrustCheckRateLimitProperty_displayName();
+        }
+
+        /**
+         * Form validation for the number of checks per minute.
+         *
+         * @param value the number of checks per minute.
+         * @return the validation results.
+         */
+        @Restricted(NoExternalUse.class) // stapler
+        public FormValidation doCheckChecksPerMinute(@QueryParameter String value) {
+            return FormValidation.validateNonNegativeInteger(value);
+        }
+
+        /**
+         * Describes how the trust checks of the controller have been limited since it started.
+         *
+         * @return the description.
+         */
+        @Restricted(NoExternalUse.class) // jelly
+        @NonNull
+        public String getStatistics() {
+            TrustCheckRateLimiter.Statistics statistics = TrustCheckRateLimiter.statistics();
+            return Messages.TrustCheckRateLimitProperty_statistics(
+                    statistics.checks(),
+                    statistics.delayedChecks(),
+                    statistics.waitMillis(),
+                    statistics.maxWaitMillis(),
+                    statistics.rejectedChecks(),
+                    TrustCheckRateLimiter.MAX_WAIT_MILLIS);
+        }
+    }
+}
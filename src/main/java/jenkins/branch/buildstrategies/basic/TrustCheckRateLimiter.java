@@ -0,0 +1,224 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import com.cloudbees.hudson.plugins.folder.AbstractFolder;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Item;
+import hudson.model.TaskListener;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.scm.api.SCMSource;
+import jenkins.util.SystemProperties;
+
+/**
+ * Limits the rate of the trust checks made against each {@link SCMSource}, so that an event storm cannot exhaust the
+ * API rate limit of the source control system. The rate of a source is taken from the nearest
+ * {@link TrustCheckRateLimitProperty} of the folders containing its owner, or else from {@link #CHECKS_PER_MINUTE}.
+ */
+final class TrustCheckRateLimiter {
+
+    /**
+     * Our logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(TrustCheckRateLimiter.class.getName());
+
+    /**
+     * The default number of trust checks per minute allowed for each source, or {@code 0} for no limit.
+     */
+    static final int CHECKS_PER_MINUTE =
+            SystemProperties.getInteger(TrustCheckRateLimiter.class.getName() + ".checksPerMinute", 0);
+
+    /**
+     * The longest time a check waits for its turn, checks that would wait longer fail instead.
+     */
+    static final long MAX_WAIT_MILLIS =
+            SystemProperties.getLong(TrustCheckRateLimiter.class.getName() + ".maxWaitMillis", 60000L);
+
+    /**
+     * The token buckets by source ID.
+     */
+    private static final ConcurrentMap<String, TokenBucket> BUCKETS = new ConcurrentHashMap<>();
+
+    /**
+     * The number of checks made.
+     */
+    private static final AtomicLong CHECKS = new AtomicLong();
+
+    /**
+     * The number of checks that had to wait.
+     */
+    private static final AtomicLong DELAYED_CHECKS = new AtomicLong();
+
+    /**
+     * The number of checks that failed as they would have waited longer than {@link #MAX_WAIT_MILLIS}.
+     */
+    private static final AtomicLong REJECTED_CHECKS = new AtomicLong();
+
+    /**
+     * The total time spent waiting.
+     */
+    private static final AtomicLong WAIT_NANOS = new AtomicLong();
+
+    /**
+     * The longest time spent waiting by a single check.
+     */
+    private static final AtomicLong MAX_WAIT_NANOS = new AtomicLong();
+
+    private TrustCheckRateLimiter() {}
+
+    /**
+     * Waits until the source may be checked.
+     *
+     * @param source   the source.
+     * @param listener the listener to report waits to.
+     * @throws IOException          if the check would have to wait longer than {@link #MAX_WAIT_MILLIS}.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    static void acquire(@NonNull SCMSource source, @NonNull TaskListener listener)
+            throws IOException, InterruptedException {
+        int checksPerMinute = checksPerMinute(source);
+        CHECKS.incrementAndGet();
+        if (checksPerMinute <= 0) {
+            BUCKETS.remove(source.getId());
+            return;
+        }
+        TokenBucket bucket = BUCKETS.compute(
+                source.getId(),
+                (id, current) ->
+                        current == null || current.checksPerMinute != checksPerMinute
+                                ? new TokenBucket(checksPerMinute)
+                                : current);
+        long waitNanos = bucket.reserve(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS));
+        if (waitNanos < 0) {
+            REJECTED_CHECKS.incrementAndGet();
+            throw new IOException("Not checking trust as the limit of " + checksPerMinute
+                    + " checks per minute would delay the check by more than " + MAX_WAIT_MILLIS + "ms");
+        }
+        if (waitNanos == 0) {
+            return;
+        }
+        DELAYED_CHECKS.incrementAndGet();
+        WAIT_NANOS.addAndGet(waitNanos);
+        MAX_WAIT_NANOS.accumulateAndGet(waitNanos, Math::max);
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        listener.getLogger()
+                .printf("Waiting %dms to check trust, limited to %d checks per minute%n", waitMillis, checksPerMinute);
+        LOGGER.log(Level.FINE, "Waiting {0}ms to check trust with source {1}, {2}", new Object[] {
+            waitMillis, source.getId(), statistics()
+        });
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    /**
+     * Returns the number of checks per minute allowed for the source.
+     *
+     * @param source the source.
+     * @return the number of checks per minute, or {@code 0} for no limit.
+     */
+    static int checksPerMinute(@NonNull SCMSource source) {
+        Object owner = source.getOwner();
+        while (owner instanceof Item item) {
+            if (item instanceof AbstractFolder<?> folder) {
+                TrustCheckRateLimitProperty property = folder.getProperties().get(TrustCheckRateLimitProperty.class);
+                if (property != null) {
+                    return property.getChecksPerMinute();
+                }
+            }
+            owner = item.getParent();
+        }
+        return CHECKS_PER_MINUTE;
+    }
+
+    /**
+     * Returns the wait statistics since the controller started.
+     *
+     * @return the wait statistics.
+     */
+    @NonNull
+    static Statistics statistics() {
+        return new Statistics(
+                CHECKS.get(),
+                DELAYED_CHECKS.get(),
+                REJECTED_CHECKS.get(),
+                TimeUnit.NANOSECONDS.toMillis(WAIT_NANOS.get()),
+                TimeUnit.NANOSECONDS.toMillis(MAX_WAIT_NANOS.get()));
+    }
+
+    /**
+     * The wait statistics.
+     *
+     * @param checks         the number of checks made.
+     * @param delayedChecks  the number of checks that had to wait.
+     * @param rejectedChecks the number of checks that failed as they would have waited too long.
+     * @param waitMillis     the total time spent waiting.
+     * @param maxWaitMillis  the longest time spent waiting by a single check.
+     */
+    record Statistics(long checks, long delayedChecks, long rejectedChecks, long waitMillis, long maxWaitMillis) {}
+
+    /**
+     * A token bucket holding up to a tenth of a minute's checks, so that short bursts are not delayed. Checks that
+     * find the bucket empty reserve a future token and wait for it, so waiting checks proceed in arrival order, unless
+     * the wait would be too long in which case no token is taken.
+     */
+    static final class TokenBucket {
+        private final int checksPerMinute;
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastNanos;
+
+        TokenBucket(int checksPerMinute) {
+            this.checksPerMinute = checksPerMinute;
+            this.capacity = Math.max(1.0, checksPerMinute / 10.0);
+            this.tokensPerNano = checksPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = capacity;
+            this.lastNanos = System.nanoTime();
+        }
+
+        /**
+         * Takes a token.
+         *
+         * @param now          the current {@link System#nanoTime()}.
+         * @param maxWaitNanos the longest time to wait for the token.
+         * @return the time to wait until the token is available, {@code 0} if it is available now, or {@code -1} if
+         *     the wait would be longer than {@code maxWaitNanos} and no token was taken.
+         */
+        synchronized long reserve(long now, long maxWaitNanos) {
+            tokens = Math.min(capacity, tokens + Math.max(0L, now - lastNanos) * tokensPerNano);
+            lastNanos = Math.max(lastNanos, now);
+            long waitNanos = tokens >= 1.0 ? 0L : (long) Math.ceil((1.0 - tokens) / tokensPerNano);
+            if (waitNanos > maxWaitNanos) {
+                return -1L;
+            }
+            tokens -= 1.0;
+            return waitNanos;
+        }
+    }
+}
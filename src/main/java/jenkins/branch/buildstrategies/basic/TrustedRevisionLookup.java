@@ -0,0 +1,355 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.TaskListener;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMSource;
+import jenkins.util.SystemProperties;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Looks up trusted revisions, protecting branch indexing from slow or failing sources:
+ * <ul>
+ *     <li>concurrent lookups of the same revision from the same source share a single call to
+ *     {@link SCMSource#getTrustedRevision(SCMRevision, TaskListener)};</li>
+ *     <li>the calls to each source are rate limited by {@link TrustCheckRateLimiter};</li>
+ *     <li>each call is abandoned if it takes longer than {@link #TIMEOUT_MILLIS}, and calls fail immediately when
+ *     {@link #MAX_THREADS} calls are running and {@link #MAX_QUEUE} are waiting;</li>
+ *     <li>after {@link #FAILURE_THRESHOLD} consecutive failures of a source, its lookups fail immediately for
+ *     {@link #OPEN_MILLIS} after which a single trial call decides if lookups resume;</li>
+ *     <li>a revision whose lookup failed is not looked up again until a backoff period that doubles with each
+ *     consecutive failure, from {@link #BACKOFF_MILLIS} up to {@link #MAX_BACKOFF_MILLIS}, has passed.</li>
+ * </ul>
+ * Successful results are not kept, later lookups make a new call.
+ */
+final class TrustedRevisionLookup {
+
+    /**
+     * The time after which a call is abandoned, or {@code 0} to wait for as long as the call takes.
+     */
+    static final long TIMEOUT_MILLIS =
+            SystemProperties.getLong(TrustedRevisionLookup.class.getName() + ".timeoutMillis", 30000L);
+
+    /**
+     * The number of consecutive failures of a source after which its lookups are suspended.
+     */
+    static final int FAILURE_THRESHOLD =
+            SystemProperties.getInteger(TrustedRevisionLookup.class.getName() + ".failureThreshold", 5);
+
+    /**
+     * The time for which the lookups of a failing source are suspended.
+     */
+    static final long OPEN_MILLIS =
+            SystemProperties.getLong(TrustedRevisionLookup.class.getName() + ".openMillis", 60000L);
+
+    /**
+     * The time for which a revision is not looked up again after its first failed lookup.
+     */
+    static final long BACKOFF_MILLIS =
+            SystemProperties.getLong(TrustedRevisionLookup.class.getName() + ".backoffMillis", 5000L);
+
+    /**
+     * The maximum time for which a revision is not looked up again after repeated failed lookups.
+     */
+    static final long MAX_BACKOFF_MILLIS =
+            SystemProperties.getLong(TrustedRevisionLookup.class.getName() + ".maxBackoffMillis", 600000L);
+
+    /**
+     * The maximum number of calls running at the same time, abandoned calls count until the source returns.
+     */
+    static final int MAX_THREADS =
+            SystemProperties.getInteger(TrustedRevisionLookup.class.getName() + ".maxThreads", 10);
+
+    /**
+     * The maximum number of calls waiting for a thread, further calls fail immediately.
+     */
+    static final int MAX_QUEUE = SystemProperties.getInteger(TrustedRevisionLookup.class.getName() + ".maxQueue", 100);
+
+    /**
+     * The number of failed lookups to remember before expired ones are discarded.
+     */
+    private static final int MAX_FAILURES = 10000;
+
+    /**
+     * The lookups in progress.
+     */
+    private static final ConcurrentMap<Key, CompletableFuture<SCMRevision>> IN_FLIGHT = new ConcurrentHashMap<>();
+
+    /**
+     * The failed lookups by revision.
+     */
+    private static final ConcurrentMap<Key, Failure> FAILURES = new ConcurrentHashMap<>();
+
+    /**
+     * The circuit breakers by source ID.
+     */
+    private static final ConcurrentMap<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the calls so that they can be abandoned. A source that hangs without responding to interruption keeps a
+     * thread for each abandoned call, so the threads and the queue are bounded.
+     */
+    private static final ExecutorService EXECUTOR = newExecutor(MAX_THREADS, MAX_QUEUE);
+
+    private TrustedRevisionLookup() {}
+
+    /**
+     * Creates an executor which rejects calls once all its threads are busy and its queue is full.
+     *
+     * @param threads the maximum number of threads.
+     * @param queue   the maximum number of queued calls.
+     * @return the executor.
+     */
+    @NonNull
+    static ExecutorService newExecutor(int threads, int queue) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                Math.max(1, threads),
+                Math.max(1, threads),
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queue)),
+                new NamingThreadFactory(new DaemonThreadFactory(), TrustedRevisionLookup.class.getSimpleName()));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Returns the trusted revision, joining a lookup of the same revision from the same source if one is in progress.
+     *
+     * @param source   the source.
+     * @param revision the revision.
+     * @param listener the listener, which only receives output if this call performs the lookup.
+     * @return the trusted revision.
+     * @throws IOException          if the lookup failed, timed out or was skipped because of earlier failures.
+     * @throws InterruptedException if interrupted while looking up or waiting for the lookup.
+     */
+    @NonNull
+    static SCMRevision getTrustedRevision(
+            @NonNull SCMSource source, @NonNull SCMRevision revision, @NonNull TaskListener listener)
+            throws IOException, InterruptedException {
+        Key key = new Key(source.getId(), revision);
+        Failure failure = FAILURES.get(key);
+        if (failure != null && System.nanoTime() - failure.retryNanos() < 0) {
+            throw new IOException(
+                    "Not checking the trust of " + revision + " again for up to " + failure.backoffMillis()
+                            + "ms as the last check failed: " + failure.cause().getMessage(),
+                    failure.cause());
+        }
+        CompletableFuture<SCMRevision> lookup = new CompletableFuture<>();
+        CompletableFuture<SCMRevision> inFlight = IN_FLIGHT.putIfAbsent(key, lookup);
+        if (inFlight != null) {
+            try {
+                return inFlight.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw new IOException(cause.getMessage(), cause);
+                }
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                // the thread performing the lookup was interrupted, that is no reason to fail this lookup but the
+                // retry must still be rate limited, timed out and counted by the circuit breaker
+                return getTrustedRevision(source, revision, listener);
+            }
+        }
+        SCMRevision trusted;
+        try {
+            trusted = lookup(key, source, revision, listener);
+        } catch (IOException | InterruptedException | RuntimeException | Error e) {
+            // removed before completing so that a waiter retrying after an interruption starts a new lookup
+            IN_FLIGHT.remove(key, lookup);
+            lookup.completeExceptionally(e);
+            throw e;
+        }
+        IN_FLIGHT.remove(key, lookup);
+        lookup.complete(trusted);
+        return trusted;
+    }
+
+    private static SCMRevision lookup(Key key, SCMSource source, SCMRevision revision, @NonNull TaskListener listener)
+            throws IOException, InterruptedException {
+        CircuitBreaker breaker = BREAKERS.computeIfAbsent(key.sourceId(), id -> new CircuitBreaker());
+        if (!breaker.allow(System.nanoTime())) {
+            throw new IOException("Not checking the trust of " + revision + " as the last " + FAILURE_THRESHOLD
+                    + " checks of the source failed, checks resume within " + OPEN_MILLIS + "ms");
+        }
+        TrustCheckRateLimiter.acquire(source, listener);
+        try {
+            SCMRevision trusted = call(source, revision, listener, TIMEOUT_MILLIS);
+            breaker.success();
+            FAILURES.remove(key);
+            return trusted;
+        } catch (IOException e) {
+            long now = System.nanoTime();
+            breaker.failure(now);
+            if (FAILURES.size() >= MAX_FAILURES) {
+                FAILURES.values().removeIf(f -> now - f.retryNanos() >= 0);
+            }
+            FAILURES.compute(key, (k, previous) -> {
+                long backoff = previous == null
+                        ? BACKOFF_MILLIS
+                        : Math.min(MAX_BACKOFF_MILLIS, 2 * previous.backoffMillis());
+                return new Failure(e, now + TimeUnit.MILLISECONDS.toNanos(backoff), backoff);
+            });
+            throw e;
+        }
+    }
+
+    /**
+     * Calls the source, abandoning the call if it takes too long.
+     *
+     * @param source        the source.
+     * @param revision      the revision.
+     * @param listener      the listener.
+     * @param timeoutMillis the time after which the call is abandoned, or {@code 0} to wait for as long as it takes.
+     * @return the trusted revision.
+     * @throws IOException          if the call failed or timed out.
+     * @throws InterruptedException if interrupted while waiting for the call.
+     */
+    @NonNull
+    static SCMRevision call(
+            @NonNull SCMSource source,
+            @NonNull SCMRevision revision,
+            @NonNull TaskListener listener,
+            long timeoutMillis)
+            throws IOException, InterruptedException {
+        if (timeoutMillis <= 0) {
+            return source.getTrustedRevision(revision, listener);
+        }
+        SecurityContext context = SecurityContextHolder.getContext();
+        Future<SCMRevision> call;
+        try {
+            call = EXECUTOR.submit(() -> {
+                SecurityContext previous = SecurityContextHolder.getContext();
+                SecurityContextHolder.setContext(context);
+                try {
+                    return source.getTrustedRevision(revision, listener);
+                } finally {
+                    SecurityContextHolder.setContext(previous);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new IOException(
+                    "Not checking the trust of " + revision + " as " + MAX_THREADS
+                            + " checks are already running and " + MAX_QUEUE + " are waiting",
+                    e);
+        }
+        try {
+            return call.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            throw new IOException("Timed out after " + timeoutMillis + "ms checking the trust of " + revision, e);
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new IOException(cause.getMessage(), cause);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Identifies a lookup.
+     *
+     * @param sourceId the source ID.
+     * @param revision the revision.
+     */
+    private record Key(String sourceId, SCMRevision revision) {}
+
+    /**
+     * A failed lookup.
+     *
+     * @param cause         the failure.
+     * @param retryNanos    the {@link System#nanoTime()} after which the revision can be looked up again.
+     * @param backoffMillis the time for which the revision is not looked up again.
+     */
+    private record Failure(IOException cause, long retryNanos, long backoffMillis) {}
+
+    /**
+     * Tracks the consecutive failures of a source.
+     */
+    private static final class CircuitBreaker {
+        private int failures;
+        private long openUntilNanos;
+
+        /**
+         * Checks if a call may be made.
+         *
+         * @param now the current {@link System#nanoTime()}.
+         * @return {@code true} if the call may be made.
+         */
+        synchronized boolean allow(long now) {
+            if (failures < FAILURE_THRESHOLD) {
+                return true;
+            }
+            if (now - openUntilNanos < 0) {
+                return false;
+            }
+            // let a single trial call through, the others wait for another period unless it succeeds
+            openUntilNanos = now + TimeUnit.MILLISECONDS.toNanos(OPEN_MILLIS);
+            return true;
+        }
+
+        synchronized void success() {
+            failures = 0;
+        }
+
+        synchronized void failure(long now) {
+            failures++;
+            if (failures >= FAILURE_THRESHOLD) {
+                openUntilNanos = now + TimeUnit.MILLISECONDS.toNanos(OPEN_MILLIS);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+Behaviour.specify(".bbs-test-names-button", "bbs-test-names", 0, function (button) {
+  function collectFilters(scope) {
+    var filters = [];
+    var owner = scope.matches(".repeated-chunk") ? scope : null;
+    scope.querySelectorAll(".repeated-chunk[descriptorId]").forEach(function (chunk) {
+      // only the rules of this strategy, not those of strategies nested in it
+      if (chunk.parentElement.closest(".repeated-chunk") !== owner) {
+        return;
+      }
+      var filter = { kind: chunk.getAttribute("descriptorId") };
+      chunk.querySelectorAll("input[name^='_.'], textarea[name^='_.'], select[name^='_.']").forEach(function (field) {
+        var name = field.name.substring(2);
+        filter[name] = field.type === "checkbox" ? field.checked : field.value;
+      });
+      filters.push(filter);
+    });
+    return filters;
+  }
+
+  function renderSample(parent, title, names) {
+    if (names.length === 0) {
+      return;
+    }
+    var heading = document.createElement("div");
+    heading.textContent = title;
+    parent.appendChild(heading);
+    var list = document.createElement("ul");
+    names.forEach(function (name) {
+      var item = document.createElement("li");
+      item.textContent = name;
+      list.appendChild(item);
+    });
+    parent.appendChild(list);
+  }
+
+  function render(result, response) {
+    result.textContent = "";
+    if (response.status !== "ok") {
+      result.textContent = response.message;
+      return;
+    }
+    var data = response.data;
+    var summary = document.createElement("div");
+    summary.textContent = data.matched + " matching, " + data.unmatched + " not matching, evaluated in "
+      + data.elapsedMillis + "ms";
+    if (data.stopped) {
+      summary.textContent += ", stopped after " + (data.matched + data.unmatched)
+        + " names when the time limit was reached";
+    }
+    result.appendChild(summary);
+    renderSample(result, "Matching:", data.matchedSample);
+    renderSample(result, "Not matching:", data.unmatchedSample);
+  }
+
+  button.addEventListener("click", function () {
+    var container = button.closest(".bbs-test-names");
+    var scope = button.closest(".repeated-chunk") || button.closest("form");
+    var input = container.querySelector(".bbs-test-names-input");
+    var file = container.querySelector(".bbs-test-names-file");
+    var result = container.querySelector(".bbs-test-names-result");
+    var names = file.files.length > 0 ? file.files[0].text() : Promise.resolve("");
+    names
+      .then(function (text) {
+        var json = { filters: collectFilters(scope), names: input.value + "\n" + text };
+        result.textContent = "…";
+        return fetch(button.getAttribute("data-url"), {
+          method: "post",
+          headers: crumb.wrap({ "Content-Type": "application/x-www-form-urlencoded" }),
+          body: new URLSearchParams({ json: JSON.stringify(json) }),
+        });
+      })
+      .then(function (rsp) {
+        return rsp.json();
+      })
+      .then(function (response) {
+        render(result, response);
+      })
+      .catch(function (error) {
+        result.textContent = String(error);
+      });
+  });
+});
@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import hudson.model.FreeStyleProject;
+import hudson.model.TaskListener;
+import java.util.Collections;
+import java.util.List;
+import jenkins.branch.BranchBuildStrategy;
+import jenkins.branch.buildstrategies.basic.NamedBranchBuildStrategyImpl.NameFilter;
+import jenkins.scm.impl.mock.MockSCMController;
+import jenkins.scm.impl.mock.MockSCMHead;
+import jenkins.scm.impl.mock.MockSCMRevision;
+import jenkins.scm.impl.mock.MockSCMSource;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class AdmissionControlBuildStrategyImplTest {
+
+    @Test
+    void given__idle_controller__when__isAutomaticBuild__then__sub_strategies_decide(JenkinsRule j) {
+        try (MockSCMController c = MockSCMController.create()) {
+            ControllerLoad.refresh();
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            MockSCMHead head = new MockSCMHead("feature");
+            MockSCMRevision revision = new MockSCMRevision(head, "dummy");
+            assertThat(
+                    "like All Strategies Match, no strategies never match",
+                    new AdmissionControlBuildStrategyImpl(null, 0, null)
+                            .isAutomaticBuild(source, head, revision, null, null, TaskListener.NULL),
+                    is(false));
+            List<BranchBuildStrategy> branches = Collections.singletonList(new BranchBuildStrategyImpl());
+            assertThat(
+                    new AdmissionControlBuildStrategyImpl(branches, 0, null)
+                            .isAutomaticBuild(source, head, revision, null, null, TaskListener.NULL),
+                    is(true));
+            assertThat(
+                    new AdmissionControlBuildStrategyImpl(
+                                    Collections.singletonList(new NoneBranchBuildStrategyImpl(
+                                            Collections.singletonList(new BranchBuildStrategyImpl()))),
+                                    0,
+                                    null)
+                            .isAutomaticBuild(source, head, revision, null, null, TaskListener.NULL),
+                    is(false));
+        }
+    }
+
+    @Test
+    void given__busy_controller__when__isAutomaticBuild__then__only_critical_heads_built(JenkinsRule j)
+            throws Exception {
+        j.jenkins.setNumExecutors(0);
+        for (int i = 0; i < 3; i++) {
+            FreeStyleProject p = j.createFreeStyleProject();
+            p.scheduleBuild2(3600);
+        }
+        try (MockSCMController c = MockSCMController.create()) {
+            assertThat(ControllerLoad.refresh().getBacklog(), is(3));
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            NameFilter critical = new NamedBranchBuildStrategyImpl.ExactNameFilter("main", true);
+            List<BranchBuildStrategy> branches = Collections.singletonList(new BranchBuildStrategyImpl());
+            AdmissionControlBuildStrategyImpl strategy =
+                    new AdmissionControlBuildStrategyImpl(branches, 2, Collections.singletonList(critical));
+            MockSCMHead feature = new MockSCMHead("feature");
+            MockSCMHead main = new MockSCMHead("main");
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            source, feature, new MockSCMRevision(feature, "dummy"), null, null, TaskListener.NULL),
+                    is(false));
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            source, main, new MockSCMRevision(main, "dummy"), null, null, TaskListener.NULL),
+                    is(true));
+            assertThat(
+                    new AdmissionControlBuildStrategyImpl(branches, 3, null)
+                            .isAutomaticBuild(
+                                    source,
+                                    feature,
+                                    new MockSCMRevision(feature, "dummy"),
+                                    null,
+                                    null,
+                                    TaskListener.NULL),
+                    is(true));
+        } finally {
+            j.jenkins.getQueue().clear();
+            ControllerLoad.refresh();
+        }
+    }
+
+    @Test
+    void equalsContract() {
+        EqualsVerifier.forClass(AdmissionControlBuildStrategyImpl.class)
+                .usingGetClass()
+                .verify();
+    }
+}
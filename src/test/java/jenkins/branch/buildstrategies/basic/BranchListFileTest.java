@@ -0,0 +1,157 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BranchListFileTest {
+
+    @TempDir
+    private Path tmp;
+
+    @Test
+    void given__file__when__contains__then__matches_listed_names_only() throws Exception {
+        assertMatchesListedNamesOnly(false);
+    }
+
+    @Test
+    void given__file__when__compact_contains__then__matches_listed_names_only() throws Exception {
+        assertMatchesListedNamesOnly(true);
+    }
+
+    private void assertMatchesListedNamesOnly(boolean compact) throws Exception {
+        Path file = tmp.resolve("branches.txt");
+        Files.writeString(
+                file,
+                "# generated by release tooling\n  master \r\n\nrelease/1.0\nmaster\nfeature/ünïcødé\n",
+                StandardCharsets.UTF_8);
+        BranchListFile list = new BranchListFile(file, compact);
+        assertThat(list.size(), is(3));
+        assertThat(list.contains("master"), is(true));
+        assertThat(list.contains("release/1.0"), is(true));
+        assertThat(list.contains("feature/ünïcødé"), is(true));
+        assertThat(list.contains("Master"), is(false));
+        assertThat(list.contains("release"), is(false));
+        assertThat(list.contains("# generated by release tooling"), is(false));
+        assertThat(list.contains(""), is(false));
+    }
+
+    @Test
+    void given__large_file__when__contains__then__matches_listed_names_only() throws Exception {
+        assertLargeFileMatchesListedNamesOnly(false);
+    }
+
+    @Test
+    void given__large_file__when__compact_contains__then__matches_listed_names_only() throws Exception {
+        assertLargeFileMatchesListedNamesOnly(true);
+    }
+
+    private void assertLargeFileMatchesListedNamesOnly(boolean compact) throws Exception {
+        Path file = tmp.resolve("branches.txt");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            content.append("feature/PAY-").append((i * 7919) % 100000).append('\n');
+        }
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        BranchListFile list = new BranchListFile(file, compact);
+        assertThat(list.size(), is(100000));
+        assertThat(list.contains("feature/PAY-0"), is(true));
+        assertThat(list.contains("feature/PAY-99999"), is(true));
+        assertThat(list.contains("feature/PAY-100000"), is(false));
+    }
+
+    @Test
+    void given__large_file_truncated_in_place__when__contains__then__previous_names_matched() throws Exception {
+        Path file = tmp.resolve("branches.txt");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            content.append("feature/PAY-").append(i).append('\n');
+        }
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        BranchListFile list = new BranchListFile(file, false);
+        assertThat(list.contains("feature/PAY-99999"), is(true));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+        }
+        assertThat(list.contains("feature/PAY-99999"), is(true));
+    }
+
+    @Test
+    void given__mapped_file_truncated_in_place__when__contains__then__previous_names_matched() throws Exception {
+        for (boolean compact : new boolean[] {false, true}) {
+            Path file = tmp.resolve("branches.txt");
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 100000; i++) {
+                content.append("feature/PAY-").append(i).append('\n');
+            }
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+            Path snapshots = tmp.resolve("snapshots");
+            BranchListFile list = new BranchListFile(file, compact, snapshots, 0L);
+            assertThat(list.contains("feature/PAY-99999"), is(true));
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(0);
+            }
+            assertThat(list.contains("feature/PAY-99999"), is(true));
+            try (Stream<Path> files = Files.list(snapshots)) {
+                assertThat("The snapshot was deleted once mapped", files.count(), is(0L));
+            }
+        }
+    }
+
+    @Test
+    void given__unreadable_file__when__reload__then__previous_names_kept() throws Exception {
+        for (boolean compact : new boolean[] {false, true}) {
+            Path file = tmp.resolve("branches.txt");
+            Files.writeString(file, "master\n", StandardCharsets.UTF_8);
+            BranchListFile list = new BranchListFile(file, compact);
+            assertThat(list.contains("master"), is(true));
+            Files.delete(file);
+            list.reload();
+            assertThat(list.contains("master"), is(true));
+            Files.writeString(file, "main\n", StandardCharsets.UTF_8);
+            list.reload();
+            assertThat(list.contains("master"), is(false));
+            assertThat(list.contains("main"), is(true));
+        }
+    }
+
+    @Test
+    void given__missing_file__when__contains__then__matches_nothing() {
+        for (boolean compact : new boolean[] {false, true}) {
+            BranchListFile list = new BranchListFile(tmp.resolve("missing.txt"), compact);
+            assertThat(list.size(), is(0));
+            assertThat(list.contains("master"), is(false));
+        }
+    }
+}
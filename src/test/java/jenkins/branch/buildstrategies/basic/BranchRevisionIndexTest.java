@@ -0,0 +1,53 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+class BranchRevisionIndexTest {
+
+    @Test
+    void given__recorded_revision__when__contains__then__only_latest_revision_of_branch() {
+        BranchRevisionIndex.record("index-source", "feature", "rev1");
+        assertThat(BranchRevisionIndex.contains("index-source", "feature", "rev1"), is(true));
+        assertThat(BranchRevisionIndex.contains("index-source", "other", "rev1"), is(false));
+        assertThat(BranchRevisionIndex.contains("other-source", "feature", "rev1"), is(false));
+        BranchRevisionIndex.record("index-source", "feature", "rev2");
+        assertThat(BranchRevisionIndex.contains("index-source", "feature", "rev1"), is(false));
+        assertThat(BranchRevisionIndex.contains("index-source", "feature", "rev2"), is(true));
+    }
+
+    @Test
+    void given__cancelled_revision__when__forget__then__newer_revision_kept() {
+        BranchRevisionIndex.record("forget-source", "feature", "rev1");
+        BranchRevisionIndex.record("forget-source", "feature", "rev2");
+        BranchRevisionIndex.forget("forget-source", "feature", "rev1");
+        assertThat(BranchRevisionIndex.contains("forget-source", "feature", "rev2"), is(true));
+        BranchRevisionIndex.forget("forget-source", "feature", "rev2");
+        assertThat(BranchRevisionIndex.contains("forget-source", "feature", "rev2"), is(false));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import hudson.model.FreeStyleProject;
+import hudson.model.TaskListener;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import jenkins.branch.BranchSource;
+import jenkins.branch.buildstrategies.basic.harness.BasicMultiBranchProject;
+import jenkins.scm.impl.mock.MockSCMController;
+import jenkins.scm.impl.mock.MockSCMDiscoverTags;
+import jenkins.scm.impl.mock.MockSCMHead;
+import jenkins.scm.impl.mock.MockSCMRevision;
+import jenkins.scm.impl.mock.MockSCMSource;
+import jenkins.scm.impl.mock.MockTagSCMHead;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BuildBudgetBuildStrategyImplTest {
+
+    /**
+     * All tests in this class only create items and do not affect other global configuration, thus we trade test
+     * execution time for the restriction on only touching items.
+     */
+    private static JenkinsRule j;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        j = rule;
+    }
+
+    @Test
+    void given__no_owner__when__isAutomaticBuild__then__returns_true() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMHead head = new MockSCMHead("master");
+            assertThat(
+                    new BuildBudgetBuildStrategyImpl(1)
+                            .isAutomaticBuild(
+                                    new MockSCMSource(c, "dummy"),
+                                    head,
+                                    new MockSCMRevision(head, "dummy"),
+                                    null,
+                                    null,
+                                    TaskListener.NULL),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__question_outside_indexing__when__isAutomaticBuild__then__not_counted() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "events");
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            source.setOwner(prj);
+            BuildBudgetBuildStrategyImpl strategy = new BuildBudgetBuildStrategyImpl(2);
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < 3; i++) {
+                MockTagSCMHead tag = new MockTagSCMHead("v" + i, now - i);
+                assertThat(
+                        strategy.isAutomaticBuild(
+                                source, tag, new MockSCMRevision(tag, "dummy"), null, null, TaskListener.NULL),
+                        is(true));
+            }
+        }
+    }
+
+    @Test
+    void given__budget__when__indexing__then__remaining_heads_built_by_next_indexing() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            for (int i = 1; i <= 5; i++) {
+                // the tags are ranked by their timestamp, so each must be more recent than the previous one
+                Thread.sleep(10);
+                c.createTag("foo", "master", "v" + i);
+            }
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "budget");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverTags()));
+            source.setBuildStrategies(Collections.singletonList(new AllBranchBuildStrategyImpl(
+                    Arrays.asList(new TagBuildStrategyImpl("", ""), new BuildBudgetBuildStrategyImpl(2)))));
+            prj.getSourcesList().add(source);
+            // the first indexing knows nothing of the other tags, so builds the first ones it is asked about
+            prj.scheduleBuild2(0).getFuture().get();
+            j.waitUntilNoActivity();
+            assertThat(builtJobs(prj), containsInAnyOrder("v1", "v2"));
+            // the next indexing builds the most recently updated of the tags turned down
+            prj.scheduleBuild2(0).getFuture().get();
+            j.waitUntilNoActivity();
+            assertThat(builtJobs(prj), containsInAnyOrder("v1", "v2", "v4", "v5"));
+            prj.scheduleBuild2(0).getFuture().get();
+            j.waitUntilNoActivity();
+            assertThat(builtJobs(prj), containsInAnyOrder("v1", "v2", "v3", "v4", "v5"));
+        }
+    }
+
+    private static List<String> builtJobs(BasicMultiBranchProject prj) {
+        return prj.getItems().stream()
+                .filter(job -> job.getLastBuild() != null)
+                .map(FreeStyleProject::getName)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void equalsContract() {
+        EqualsVerifier.forClass(BuildBudgetBuildStrategyImpl.class)
+                .usingGetClass()
+                .verify();
+    }
+}
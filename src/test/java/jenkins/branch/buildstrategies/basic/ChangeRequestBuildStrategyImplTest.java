@@ -26,7 +26,10 @@ package jenkins.branch.buildstrategies.basic;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import hudson.model.TaskListener;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 import jenkins.scm.api.SCMHeadOrigin;
 import jenkins.scm.api.mixin.ChangeRequestCheckoutStrategy;
 import jenkins.scm.impl.mock.MockChangeRequestFlags;
@@ -40,6 +43,7 @@ import jenkins.scm.impl.mock.MockSCMRevision;
 import jenkins.scm.impl.mock.MockSCMSource;
 import jenkins.scm.impl.mock.MockTagSCMHead;
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 import org.junit.jupiter.api.Test;
 
 class ChangeRequestBuildStrategyImplTest {
@@ -146,7 +150,7 @@ class ChangeRequestBuildStrategyImplTest {
                                             head, new MockSCMRevision(new MockSCMHead("master"), "dummy"), "dummy"),
                                     null,
                                     null,
-                                    null),
+                                    TaskListener.NULL),
                     is(false));
         }
     }
@@ -251,10 +255,158 @@ class ChangeRequestBuildStrategyImplTest {
         }
     }
 
+    @Test
+    void given__cr_head_rebuilding_stale_target_changes__when__target_change__then__built_once_per_interval() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockChangeRequestSCMHead head = new MockChangeRequestSCMHead(
+                    SCMHeadOrigin.DEFAULT, 1, "master", ChangeRequestCheckoutStrategy.MERGE, true);
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            ChangeRequestBuildStrategyImpl strategy = new ChangeRequestBuildStrategyImpl(true, false);
+            strategy.setRebuildTargetOnlyChangesAfterMinutes(60);
+            MockChangeRequestSCMRevision lastBuilt = new MockChangeRequestSCMRevision(
+                    head, new MockSCMRevision(new MockSCMHead("master"), "old-dummy"), "dummy");
+            assertThat(
+                    "no build known, so stale",
+                    strategy.isAutomaticBuild(
+                            source,
+                            head,
+                            new MockChangeRequestSCMRevision(
+                                    head, new MockSCMRevision(new MockSCMHead("master"), "dummy"), "dummy"),
+                            lastBuilt,
+                            null,
+                            null),
+                    is(true));
+            assertThat(
+                    "not scheduled, for example declined by an enclosing strategy, so still stale",
+                    strategy.isAutomaticBuild(
+                            source,
+                            head,
+                            new MockChangeRequestSCMRevision(
+                                    head, new MockSCMRevision(new MockSCMHead("master"), "new-dummy"), "dummy"),
+                            lastBuilt,
+                            null,
+                            null),
+                    is(true));
+            ChangeRequestBuildStrategyImpl.triggered(source.getId(), head.getName(), System.currentTimeMillis());
+            assertThat(
+                    "scheduled moments ago",
+                    strategy.isAutomaticBuild(
+                            source,
+                            head,
+                            new MockChangeRequestSCMRevision(
+                                    head, new MockSCMRevision(new MockSCMHead("master"), "new-dummy"), "dummy"),
+                            lastBuilt,
+                            null,
+                            null),
+                    is(false));
+            assertThat(
+                    "origin changes are always built",
+                    strategy.isAutomaticBuild(
+                            source,
+                            head,
+                            new MockChangeRequestSCMRevision(
+                                    head, new MockSCMRevision(new MockSCMHead("master"), "new-dummy"), "new-dummy"),
+                            lastBuilt,
+                            null,
+                            null),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__cr_head_with_target_filters__when__matching_target__then__isAutomaticBuild_returns_true() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockChangeRequestSCMHead head = new MockChangeRequestSCMHead(
+                    SCMHeadOrigin.DEFAULT, 1, "release/1.0", ChangeRequestCheckoutStrategy.MERGE, true);
+            ChangeRequestBuildStrategyImpl strategy = new ChangeRequestBuildStrategyImpl(false, false);
+            strategy.setTargetFilters(Collections.singletonList(
+                    new NamedBranchBuildStrategyImpl.WildcardsNameFilter("main release/*", "", true)));
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            new MockSCMSource(c, "dummy"),
+                            head,
+                            new MockChangeRequestSCMRevision(
+                                    head, new MockSCMRevision(new MockSCMHead("release/1.0"), "dummy"), "dummy"),
+                            null,
+                            null,
+                            TaskListener.NULL),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__cr_head_with_target_filters__when__other_target__then__rejected_before_trust_check() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("dummy", MockRepositoryFlags.TRUST_AWARE);
+            Integer crNum = c.openChangeRequest("dummy", "master");
+            AtomicInteger checks = new AtomicInteger();
+            c.addFault(new MockFailure() {
+                @Override
+                public void check(String repository, String branchOrCR, String revision, boolean actions) {
+                    checks.incrementAndGet();
+                }
+            });
+            MockChangeRequestSCMHead head = new MockChangeRequestSCMHead(
+                    SCMHeadOrigin.DEFAULT, crNum, "master", ChangeRequestCheckoutStrategy.MERGE, true);
+            ChangeRequestBuildStrategyImpl strategy = new ChangeRequestBuildStrategyImpl(false, true);
+            strategy.setTargetFilters(Collections.singletonList(
+                    new NamedBranchBuildStrategyImpl.WildcardsNameFilter("main release/*", "", true)));
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            new MockSCMSource(c, "dummy"),
+                            head,
+                            new MockChangeRequestSCMRevision(
+                                    head, new MockSCMRevision(new MockSCMHead("master"), "dummy"), "dummy"),
+                            null,
+                            null,
+                            TaskListener.NULL),
+                    is(false));
+            assertThat(checks.get(), is(0));
+        }
+    }
+
+    @Test
+    void given__cr_head_ignoring_origin_duplicates__when__origin_built__then__isAutomaticBuild_returns_false() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            MockChangeRequestSCMHead head = new MockChangeRequestSCMHead(
+                    SCMHeadOrigin.DEFAULT, 1, "master", ChangeRequestCheckoutStrategy.HEAD, true);
+            MockChangeRequestSCMRevision revision = new MockChangeRequestSCMRevision(
+                    head, new MockSCMRevision(new MockSCMHead("master"), "dummy"), "dummy");
+            ChangeRequestBuildStrategyImpl strategy = new ChangeRequestBuildStrategyImpl(false, false);
+            strategy.setIgnoreOriginBranchDuplicates(true);
+            assertThat(strategy.isAutomaticBuild(source, head, revision, null, null, TaskListener.NULL), is(true));
+            BranchRevisionIndex.record(source.getId(), head.getOriginName(), revision.toString());
+            assertThat(strategy.isAutomaticBuild(source, head, revision, null, null, TaskListener.NULL), is(false));
+            assertThat(
+                    new ChangeRequestBuildStrategyImpl(false, false)
+                            .isAutomaticBuild(source, head, revision, null, null, TaskListener.NULL),
+                    is(true));
+            BranchRevisionIndex.record(source.getId(), head.getOriginName(), "other");
+            assertThat(strategy.isAutomaticBuild(source, head, revision, null, null, TaskListener.NULL), is(true));
+        }
+    }
+
+    @Test
+    void given__cr_merge_head_ignoring_origin_duplicates__when__origin_built__then__isAutomaticBuild_returns_true() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            MockChangeRequestSCMHead head = new MockChangeRequestSCMHead(
+                    SCMHeadOrigin.DEFAULT, 1, "master", ChangeRequestCheckoutStrategy.MERGE, true);
+            MockChangeRequestSCMRevision revision = new MockChangeRequestSCMRevision(
+                    head, new MockSCMRevision(new MockSCMHead("master"), "dummy"), "dummy");
+            BranchRevisionIndex.record(source.getId(), head.getOriginName(), revision.toString());
+            ChangeRequestBuildStrategyImpl strategy = new ChangeRequestBuildStrategyImpl(false, false);
+            strategy.setIgnoreOriginBranchDuplicates(true);
+            assertThat(strategy.isAutomaticBuild(source, head, revision, null, null, TaskListener.NULL), is(true));
+        }
+    }
+
     @Test
     void equalsContract() {
         EqualsVerifier.forClass(ChangeRequestBuildStrategyImpl.class)
                 .usingGetClass()
+                .suppress(Warning.NONFINAL_FIELDS)
                 .verify();
     }
 }
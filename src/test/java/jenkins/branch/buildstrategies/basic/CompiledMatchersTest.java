@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class CompiledMatchersTest {
+
+    @Test
+    void given__same_regex__when__pattern__then__compiled_once() {
+        Pattern first = CompiledMatchers.pattern("^release-\\d+$", true);
+        assertThat(CompiledMatchers.pattern("^release-\\d+$", true), sameInstance(first));
+        assertThat(CompiledMatchers.pattern("^release-\\d+$", false), not(sameInstance(first)));
+        assertThat(CompiledMatchers.pattern("^release-\\d+$", false).matcher("RELEASE-1").matches(), is(true));
+        assertThat(first.matcher("RELEASE-1").matches(), is(false));
+    }
+
+    @Test
+    void given__same_spec__when__get__then__separate_per_type() {
+        PrefixTrie trie =
+                CompiledMatchers.get(PrefixTrie.class, "release/", true, p -> new PrefixTrie(singletonList(p), true));
+        assertThat(
+                CompiledMatchers.get(PrefixTrie.class, "release/", true, p -> {
+                    throw new AssertionError("should be cached");
+                }),
+                sameInstance(trie));
+        AhoCorasickAutomaton automaton = CompiledMatchers.get(
+                AhoCorasickAutomaton.class, "release/", true, p -> new AhoCorasickAutomaton(singletonList(p), true));
+        assertThat(automaton.matches("x-release/1"), is(true));
+        assertThat(trie.matches("x-release/1"), is(false));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import hudson.model.FreeStyleProject;
+import hudson.model.TaskListener;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import jenkins.branch.BranchSource;
+import jenkins.branch.buildstrategies.basic.harness.BasicMultiBranchProject;
+import jenkins.scm.impl.mock.MockSCMController;
+import jenkins.scm.impl.mock.MockSCMDiscoverBranches;
+import jenkins.scm.impl.mock.MockSCMHead;
+import jenkins.scm.impl.mock.MockSCMRevision;
+import jenkins.scm.impl.mock.MockSCMSource;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class CooldownBuildStrategyImplTest {
+
+    /**
+     * All tests in this class only create items and do not affect other global configuration, thus we trade test
+     * execution time for the restriction on only touching items.
+     */
+    private static JenkinsRule j;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        j = rule;
+    }
+
+    @Test
+    void given__head_built__when__isAutomaticBuild__then__returns_false_within_interval() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            MockSCMHead head = new MockSCMHead("renovate/all");
+            CooldownBuildStrategyImpl strategy = new CooldownBuildStrategyImpl(60);
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            source, head, new MockSCMRevision(head, "rev1"), null, null, TaskListener.NULL),
+                    is(true));
+            HeadCooldownTable.scheduled(source.getId(), head.getName(), System.currentTimeMillis());
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            source, head, new MockSCMRevision(head, "rev2"), null, null, TaskListener.NULL),
+                    is(false));
+            MockSCMHead other = new MockSCMHead("master");
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            source, other, new MockSCMRevision(other, "rev3"), null, null, TaskListener.NULL),
+                    is(true));
+            assertThat(
+                    new CooldownBuildStrategyImpl(0)
+                            .isAutomaticBuild(
+                                    source, head, new MockSCMRevision(head, "rev4"), null, null, TaskListener.NULL),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__interval_elapsed__when__isAutomaticBuild__then__returns_true() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            MockSCMHead head = new MockSCMHead("renovate/all");
+            HeadCooldownTable.scheduled(
+                    source.getId(), head.getName(), System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(61));
+            assertThat(
+                    new CooldownBuildStrategyImpl(60)
+                            .isAutomaticBuild(
+                                    source, head, new MockSCMRevision(head, "rev1"), null, null, TaskListener.NULL),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__build_declined_by_other_strategy__when__indexing__then__interval_not_started() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "cooldown");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverBranches()));
+            source.setBuildStrategies(Collections.singletonList(new AllBranchBuildStrategyImpl(Arrays.asList(
+                    new CooldownBuildStrategyImpl(60),
+                    new NamedBranchBuildStrategyImpl(Collections.singletonList(
+                            new NamedBranchBuildStrategyImpl.ExactNameFilter("main", false)))))));
+            prj.getSourcesList().add(source);
+            prj.scheduleBuild2(0).getFuture().get();
+            j.waitUntilNoActivity();
+            FreeStyleProject master = prj.getItem("master");
+            assertThat(master.getLastBuild(), nullValue());
+            source.setBuildStrategies(Collections.singletonList(new CooldownBuildStrategyImpl(60)));
+            prj.scheduleBuild2(0).getFuture().get();
+            j.waitUntilNoActivity();
+            assertThat(master.getLastBuild(), notNullValue());
+            c.addFile("foo", "master", "adding file", "file", new byte[0]);
+            prj.scheduleBuild2(0).getFuture().get();
+            j.waitUntilNoActivity();
+            assertThat(master.getLastBuild().getNumber(), is(1));
+        }
+    }
+
+    @Test
+    void equalsContract() {
+        EqualsVerifier.forClass(CooldownBuildStrategyImpl.class)
+                .usingGetClass()
+                .verify();
+    }
+}
@@ -97,7 +97,9 @@ class FormBindingTest {
                     new NamedBranchBuildStrategyImpl.ExactNameFilter("master", false),
                     new NamedBranchBuildStrategyImpl.ExactNameFilter("production", false),
                     new NamedBranchBuildStrategyImpl.RegexNameFilter("^staging-.*$", false),
-                    new NamedBranchBuildStrategyImpl.WildcardsNameFilter("feature/*", "feature", false)))));
+                    new NamedBranchBuildStrategyImpl.WildcardsNameFilter("feature/*", "feature", false),
+                    new NamedBranchBuildStrategyImpl.PrefixNameFilter("release/ hotfix/", true),
+                    new NamedBranchBuildStrategyImpl.ContainsNameFilter("PAY- OPS-", false)))));
             prj.getSourcesList().add(source);
             j.configRoundtrip(prj);
             assertThat(
@@ -106,7 +108,9 @@ class FormBindingTest {
                             new NamedBranchBuildStrategyImpl.ExactNameFilter("master", false),
                             new NamedBranchBuildStrategyImpl.ExactNameFilter("production", false),
                             new NamedBranchBuildStrategyImpl.RegexNameFilter("^staging-.*$", false),
-                            new NamedBranchBuildStrategyImpl.WildcardsNameFilter("feature/*", "feature", false)))));
+                            new NamedBranchBuildStrategyImpl.WildcardsNameFilter("feature/*", "feature", false),
+                            new NamedBranchBuildStrategyImpl.PrefixNameFilter("release/ hotfix/", true),
+                            new NamedBranchBuildStrategyImpl.ContainsNameFilter("PAY- OPS-", false)))));
         }
     }
 
@@ -152,6 +156,230 @@ class FormBindingTest {
         }
     }
 
+    @Test
+    void changeRequest3() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(
+                    c,
+                    "foo",
+                    new MockSCMDiscoverBranches(),
+                    new MockSCMDiscoverTags(),
+                    new MockSCMDiscoverChangeRequests()));
+            ChangeRequestBuildStrategyImpl strategy = new ChangeRequestBuildStrategyImpl(true, false);
+            strategy.setRebuildTargetOnlyChangesAfterMinutes(120);
+            source.setBuildStrategies(Collections.singletonList(strategy));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(prj.getSources().get(0).getBuildStrategies(), contains(strategy));
+        }
+    }
+
+    @Test
+    void changeRequest4() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(
+                    c,
+                    "foo",
+                    new MockSCMDiscoverBranches(),
+                    new MockSCMDiscoverTags(),
+                    new MockSCMDiscoverChangeRequests()));
+            ChangeRequestBuildStrategyImpl strategy = new ChangeRequestBuildStrategyImpl(false, true);
+            strategy.setTargetFilters(Arrays.asList(
+                    new NamedBranchBuildStrategyImpl.ExactNameFilter("main", true),
+                    new NamedBranchBuildStrategyImpl.PrefixNameFilter("release/", true)));
+            source.setBuildStrategies(Collections.singletonList(strategy));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(prj.getSources().get(0).getBuildStrategies(), contains(strategy));
+        }
+    }
+
+    @Test
+    void changeRequest5() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(
+                    c,
+                    "foo",
+                    new MockSCMDiscoverBranches(),
+                    new MockSCMDiscoverTags(),
+                    new MockSCMDiscoverChangeRequests()));
+            ChangeRequestBuildStrategyImpl strategy = new ChangeRequestBuildStrategyImpl(false, false);
+            strategy.setIgnoreOriginBranchDuplicates(true);
+            source.setBuildStrategies(Collections.singletonList(strategy));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(prj.getSources().get(0).getBuildStrategies(), contains(strategy));
+        }
+    }
+
+    @Test
+    void skipRecentlyBuiltRevisions() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverBranches()));
+            source.setBuildStrategies(Collections.singletonList(new SkipRecentlyBuiltRevisionBuildStrategyImpl(30)));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(
+                    prj.getSources().get(0).getBuildStrategies(),
+                    contains(new SkipRecentlyBuiltRevisionBuildStrategyImpl(30)));
+        }
+    }
+
+    @Test
+    void quietPeriod() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverBranches()));
+            source.setBuildStrategies(Collections.singletonList(new QuietPeriodBuildStrategyImpl(120)));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(prj.getSources().get(0).getBuildStrategies(), contains(new QuietPeriodBuildStrategyImpl(120)));
+        }
+    }
+
+    @Test
+    void buildCooldown() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverBranches()));
+            source.setBuildStrategies(Collections.singletonList(new CooldownBuildStrategyImpl(45)));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(prj.getSources().get(0).getBuildStrategies(), contains(new CooldownBuildStrategyImpl(45)));
+        }
+    }
+
+    @Test
+    void buildBudget() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverBranches()));
+            source.setBuildStrategies(Collections.singletonList(new BuildBudgetBuildStrategyImpl(25)));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(prj.getSources().get(0).getBuildStrategies(), contains(new BuildBudgetBuildStrategyImpl(25)));
+        }
+    }
+
+    @Test
+    void admissionControl() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverBranches()));
+            AdmissionControlBuildStrategyImpl strategy = new AdmissionControlBuildStrategyImpl(
+                    Collections.singletonList(new BranchBuildStrategyImpl()),
+                    500,
+                    Collections.singletonList(new NamedBranchBuildStrategyImpl.ExactNameFilter("main", true)));
+            source.setBuildStrategies(Collections.singletonList(strategy));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(prj.getSources().get(0).getBuildStrategies(), contains(strategy));
+        }
+    }
+
+    @Test
+    void tagOneTagPerRevision() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverTags()));
+            TagBuildStrategyImpl strategy = new TagBuildStrategyImpl("", "7");
+            strategy.setOneTagPerRevision(true);
+            strategy.setTagPriority("v*.*.* v*.*");
+            source.setBuildStrategies(Collections.singletonList(strategy));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(prj.getSources().get(0).getBuildStrategies(), contains(strategy));
+        }
+    }
+
+    @Test
+    void tagNewestTags() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverTags()));
+            TagBuildStrategyImpl strategy = new TagBuildStrategyImpl("", "");
+            strategy.setNewestTags(5);
+            source.setBuildStrategies(Collections.singletonList(strategy));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(prj.getSources().get(0).getBuildStrategies(), contains(strategy));
+        }
+    }
+
+    @Test
+    void tagIgnoreOlderThanBuilt() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverTags()));
+            TagBuildStrategyImpl strategy = new TagBuildStrategyImpl("", "");
+            strategy.setIgnoreOlderThanBuilt(true);
+            source.setBuildStrategies(Collections.singletonList(strategy));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(prj.getSources().get(0).getBuildStrategies(), contains(strategy));
+        }
+    }
+
+    @Test
+    void tagFilters() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverTags()));
+            TagBuildStrategyImpl strategy = new TagBuildStrategyImpl("", "");
+            strategy.setFilters(Collections.singletonList(
+                    new NamedBranchBuildStrategyImpl.WildcardsNameFilter("release-*", "", true)));
+            source.setBuildStrategies(Collections.singletonList(strategy));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(prj.getSources().get(0).getBuildStrategies(), contains(strategy));
+        }
+    }
+
+    @Test
+    void semanticVersionTags() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "foo");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverTags()));
+            source.setBuildStrategies(
+                    Collections.singletonList(new SemanticVersionTagBuildStrategyImpl(">=2.0.0 <3.0.0", true)));
+            prj.getSourcesList().add(source);
+            j.configRoundtrip(prj);
+            assertThat(
+                    prj.getSources().get(0).getBuildStrategies(),
+                    contains(new SemanticVersionTagBuildStrategyImpl(">=2.0.0 <3.0.0", true)));
+        }
+    }
+
     @Test
     void tag____() throws Exception {
         try (MockSCMController c = MockSCMController.create()) {
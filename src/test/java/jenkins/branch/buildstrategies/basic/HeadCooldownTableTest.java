@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+class HeadCooldownTableTest {
+
+    @Test
+    void given__scheduled_head__when__lastScheduled__then__held_back_within_interval() {
+        assertThat(HeadCooldownTable.lastScheduled("cooldown-source", "feature", 1000L, 10000L), is(Long.MIN_VALUE));
+        HeadCooldownTable.scheduled("cooldown-source", "feature", 10000L);
+        assertThat(HeadCooldownTable.lastScheduled("cooldown-source", "feature", 1000L, 10500L), is(10000L));
+        assertThat(HeadCooldownTable.lastScheduled("cooldown-source", "other", 1000L, 10500L), is(Long.MIN_VALUE));
+        assertThat(HeadCooldownTable.lastScheduled("cooldown-source", "feature", 1000L, 11000L), is(Long.MIN_VALUE));
+    }
+
+    @Test
+    void given__builds_recorded_out_of_order__when__lastScheduled__then__latest_kept() {
+        HeadCooldownTable.scheduled("order-source", "feature", 10000L);
+        HeadCooldownTable.scheduled("order-source", "feature", 9000L);
+        assertThat(HeadCooldownTable.lastScheduled("order-source", "feature", 1000L, 10500L), is(10000L));
+    }
+
+    @Test
+    void given__forgotten_head__when__lastScheduled__then__not_held_back() {
+        HeadCooldownTable.scheduled("forget-source", "feature", 10000L);
+        HeadCooldownTable.forget("forget-source", "feature");
+        assertThat(HeadCooldownTable.lastScheduled("forget-source", "feature", 1000L, 10500L), is(Long.MIN_VALUE));
+    }
+
+    @Test
+    void given__opted_in_source__when__isOptedIn__then__true() {
+        assertThat(HeadCooldownTable.isOptedIn("opt-in-source"), is(false));
+        HeadCooldownTable.optIn("opt-in-source");
+        assertThat(HeadCooldownTable.isOptedIn("opt-in-source"), is(true));
+        assertThat(HeadCooldownTable.isOptedIn(null), is(false));
+    }
+}
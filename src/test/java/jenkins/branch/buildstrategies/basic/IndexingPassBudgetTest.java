@@ -0,0 +1,59 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import jenkins.branch.buildstrategies.basic.IndexingPassBudget.Admission;
+import org.junit.jupiter.api.Test;
+
+class IndexingPassBudgetTest {
+
+    @Test
+    void given__budget__when__admit__then__limited_per_pass() {
+        Object pass = new Object();
+        assertThat(IndexingPassBudget.admit("limited", pass, 1000L, 2), is(Admission.ALLOWED));
+        assertThat(IndexingPassBudget.admit("limited", pass, 2000L, 2), is(Admission.ALLOWED));
+        assertThat(IndexingPassBudget.admit("limited", pass, 3000L, 2), is(Admission.BUDGET_SPENT));
+        assertThat(IndexingPassBudget.admit("other", new Object(), 3000L, 2), is(Admission.ALLOWED));
+        assertThat(IndexingPassBudget.admit("limited", new Object(), 3000L, 2), is(Admission.ALLOWED));
+    }
+
+    @Test
+    void given__heads_turned_down__when__next_pass__then__most_recent_first() {
+        Object pass = new Object();
+        assertThat(IndexingPassBudget.admit("recency", pass, 1000L, 2), is(Admission.ALLOWED));
+        assertThat(IndexingPassBudget.admit("recency", pass, 2000L, 2), is(Admission.ALLOWED));
+        assertThat(IndexingPassBudget.admit("recency", pass, 3000L, 2), is(Admission.BUDGET_SPENT));
+        assertThat(IndexingPassBudget.admit("recency", pass, 5000L, 2), is(Admission.BUDGET_SPENT));
+        assertThat(IndexingPassBudget.admit("recency", pass, 4000L, 2), is(Admission.BUDGET_SPENT));
+        pass = new Object();
+        assertThat(IndexingPassBudget.admit("recency", pass, 3000L, 2), is(Admission.NEWER_WAITING));
+        assertThat(IndexingPassBudget.admit("recency", pass, 5000L, 2), is(Admission.ALLOWED));
+        assertThat(IndexingPassBudget.admit("recency", pass, 4000L, 2), is(Admission.ALLOWED));
+        pass = new Object();
+        assertThat(IndexingPassBudget.admit("recency", pass, 3000L, 2), is(Admission.ALLOWED));
+    }
+}
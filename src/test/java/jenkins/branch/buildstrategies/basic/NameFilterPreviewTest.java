@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NameFilterPreviewTest {
+
+    @Test
+    void given__many_names__when__evaluate__then__counts_and_samples_in_input_order() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            names.add((i % 10 == 0 ? "release/" : "feature/") + i);
+        }
+        NameFilterPreview.Result result = NameFilterPreview.evaluate(
+                Arrays.asList(
+                        new NamedBranchBuildStrategyImpl.PrefixNameFilter("release/", true),
+                        new NamedBranchBuildStrategyImpl.ExactNameFilter("feature/1", true)),
+                names,
+                3);
+        assertThat(result.matched(), is(1001));
+        assertThat(result.unmatched(), is(8999));
+        assertThat(result.matchedSample(), contains("release/0", "feature/1", "release/10"));
+        assertThat(result.unmatchedSample(), contains("feature/2", "feature/3", "feature/4"));
+        assertThat(result.elapsedMillis(), greaterThanOrEqualTo(0L));
+        assertThat(result.stopped(), is(false));
+    }
+
+    @Test
+    void given__backtracking_regex__when__evaluate__then__stopped_after_time_limit() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            names.add("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!" + i);
+        }
+        NameFilterPreview.Result result = NameFilterPreview.evaluate(
+                Collections.singletonList(new NamedBranchBuildStrategyImpl.RegexNameFilter("(.*a){20}", true)),
+                names,
+                3,
+                500L,
+                20L);
+        assertThat(result.stopped(), is(true));
+        assertThat(result.matched(), is(0));
+        assertThat(result.unmatched(), lessThan(names.size()));
+        assertThat(result.elapsedMillis(), lessThan(5000L));
+    }
+
+    @Test
+    void given__no_filters__when__evaluate__then__nothing_matches() {
+        NameFilterPreview.Result result =
+                NameFilterPreview.evaluate(Collections.emptyList(), Arrays.asList("master", "develop"), 20);
+        assertThat(result.matched(), is(0));
+        assertThat(result.unmatched(), is(2));
+        assertThat(result.matchedSample(), is(empty()));
+        assertThat(result.unmatchedSample(), hasSize(2));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import jenkins.branch.BranchBuildStrategy;
+import jenkins.branch.buildstrategies.basic.NamedBranchBuildStrategyImpl.NameFilter;
+import org.junit.jupiter.api.Test;
+
+class NameFilterWarmUpTest {
+
+    @Test
+    void given__composite_strategies__when__collect__then__all_nested_filters_found() {
+        NameFilter regex = new NamedBranchBuildStrategyImpl.RegexNameFilter("^release-.*$", true);
+        NameFilter wildcards = new NamedBranchBuildStrategyImpl.WildcardsNameFilter("feature/*", "", false);
+        NameFilter prefix = new NamedBranchBuildStrategyImpl.PrefixNameFilter("hotfix/", true);
+        NameFilter exact = new NamedBranchBuildStrategyImpl.ExactNameFilter("v1.0", true);
+        TagBuildStrategyImpl tags = new TagBuildStrategyImpl(TimeUnit.DAYS, null, null);
+        tags.setFilters(Collections.singletonList(exact));
+        BranchBuildStrategy strategy = new AllBranchBuildStrategyImpl(Arrays.asList(
+                new NamedBranchBuildStrategyImpl(Collections.singletonList(regex)),
+                new AnyBranchBuildStrategyImpl(Arrays.asList(
+                        new BranchBuildStrategyImpl(),
+                        new NamedBranchBuildStrategyImpl(Collections.singletonList(wildcards)),
+                        tags)),
+                new NoneBranchBuildStrategyImpl(
+                        Collections.singletonList(new NamedBranchBuildStrategyImpl(Arrays.asList(prefix, regex))))));
+        Set<NameFilter> filters = Collections.newSetFromMap(new IdentityHashMap<>());
+        NameFilterWarmUp.collect(strategy, filters);
+        assertThat(filters, containsInAnyOrder(regex, wildcards, prefix, exact));
+    }
+
+    @Test
+    void given__admission_control__when__collect__then__critical_and_nested_filters_found() {
+        NameFilter critical = new NamedBranchBuildStrategyImpl.ExactNameFilter("main", true);
+        NameFilter prefix = new NamedBranchBuildStrategyImpl.PrefixNameFilter("hotfix/", true);
+        BranchBuildStrategy strategy = new AdmissionControlBuildStrategyImpl(
+                Collections.singletonList(new NamedBranchBuildStrategyImpl(Collections.singletonList(prefix))),
+                100,
+                Collections.singletonList(critical));
+        Set<NameFilter> filters = Collections.newSetFromMap(new IdentityHashMap<>());
+        NameFilterWarmUp.collect(strategy, filters);
+        assertThat(filters, containsInAnyOrder(critical, prefix));
+    }
+
+    @Test
+    void given__prepared_filters__when__isMatch__then__same_results() {
+        NameFilter wildcards = new NamedBranchBuildStrategyImpl.WildcardsNameFilter("feature/*", "feature/wip-*", true);
+        NameFilter contains = new NamedBranchBuildStrategyImpl.ContainsNameFilter("PAY-", true);
+        wildcards.prepare();
+        contains.prepare();
+        assertThat(wildcards.isMatch("feature/PAY-1"), is(true));
+        assertThat(wildcards.isMatch("feature/wip-PAY-1"), is(false));
+        assertThat(contains.isMatch("feature/PAY-1"), is(true));
+        assertThat(contains.isMatch("feature/OPS-1"), is(false));
+    }
+}
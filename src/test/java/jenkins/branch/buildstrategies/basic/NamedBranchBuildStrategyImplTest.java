@@ -23,9 +23,13 @@
  */
 package jenkins.branch.buildstrategies.basic;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 
+import hudson.util.StreamTaskListener;
+import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import jenkins.scm.api.SCMHeadOrigin;
@@ -180,4 +184,107 @@ class NamedBranchBuildStrategyImplTest {
                     is(true));
         }
     }
+
+    @Test
+    void given__regular_head__when__prefix_match__then__isAutomaticBuild_returns_true() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMHead head = new MockSCMHead("Hotfix/1.2");
+            assertThat(
+                    new NamedBranchBuildStrategyImpl(Collections.singletonList(
+                                    new NamedBranchBuildStrategyImpl.PrefixNameFilter(
+                                            "release/ hotfix/ support/", false)))
+                            .isAutomaticBuild(
+                                    new MockSCMSource(c, "dummy"),
+                                    head,
+                                    new MockSCMRevision(head, "dummy"),
+                                    null,
+                                    null,
+                                    null),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__regular_head__when__prefix_non_match__then__isAutomaticBuild_returns_false() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMHead head = new MockSCMHead("Hotfix/1.2");
+            assertThat(
+                    new NamedBranchBuildStrategyImpl(Collections.singletonList(
+                                    new NamedBranchBuildStrategyImpl.PrefixNameFilter(
+                                            "release/ hotfix/ support/", true)))
+                            .isAutomaticBuild(
+                                    new MockSCMSource(c, "dummy"),
+                                    head,
+                                    new MockSCMRevision(head, "dummy"),
+                                    null,
+                                    null,
+                                    null),
+                    is(false));
+        }
+    }
+
+    @Test
+    void given__prefix_filter__when__isMatch__then__whole_prefix_required() {
+        NamedBranchBuildStrategyImpl.PrefixNameFilter filter =
+                new NamedBranchBuildStrategyImpl.PrefixNameFilter("rel release/ re", true);
+        assertThat(filter.isMatch("release/1.0"), is(true));
+        assertThat(filter.isMatch("rel"), is(true));
+        assertThat(filter.isMatch("r"), is(false));
+        assertThat(filter.isMatch(""), is(false));
+        assertThat(new NamedBranchBuildStrategyImpl.PrefixNameFilter("", false).isMatch("master"), is(false));
+    }
+
+    @Test
+    void given__regular_head__when__contains_match__then__isAutomaticBuild_returns_true() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMHead head = new MockSCMHead("feature/ops-1234-fix-login");
+            assertThat(
+                    new NamedBranchBuildStrategyImpl(Collections.singletonList(
+                                    new NamedBranchBuildStrategyImpl.ContainsNameFilter("PAY- OPS- SEC-", false)))
+                            .isAutomaticBuild(
+                                    new MockSCMSource(c, "dummy"),
+                                    head,
+                                    new MockSCMRevision(head, "dummy"),
+                                    null,
+                                    null,
+                                    null),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__contains_filter__when__isMatch__then__any_substring_matches() {
+        NamedBranchBuildStrategyImpl.ContainsNameFilter filter =
+                new NamedBranchBuildStrategyImpl.ContainsNameFilter("he she his hers", true);
+        assertThat(filter.isMatch("ushers"), is(true));
+        assertThat(filter.isMatch("ahishers"), is(true));
+        assertThat(filter.isMatch("shhh"), is(false));
+        assertThat(filter.isMatch("HERS"), is(false));
+        assertThat(new NamedBranchBuildStrategyImpl.ContainsNameFilter("he", false).isMatch("HERS"), is(true));
+        assertThat(new NamedBranchBuildStrategyImpl.ContainsNameFilter("", false).isMatch("master"), is(false));
+    }
+
+    @Test
+    void given__catastrophic_regex__when__isMatch__then__times_out_as_non_match() {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        NamedBranchBuildStrategyImpl.RegexNameFilter filter =
+                new NamedBranchBuildStrategyImpl.RegexNameFilter("(.*a){20}", true);
+        assertThat(
+                filter.isMatch("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!", new StreamTaskListener(log, UTF_8)),
+                is(false));
+        assertThat(log.toString(UTF_8), containsString("took longer than"));
+    }
+
+    @Test
+    void given__interrupted_thread__when__isMatch__then__aborts_as_non_match() {
+        NamedBranchBuildStrategyImpl.RegexNameFilter filter =
+                new NamedBranchBuildStrategyImpl.RegexNameFilter("(.*a){20}", true);
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(filter.isMatch("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!"), is(false));
+            assertThat(Thread.currentThread().isInterrupted(), is(true));
+        } finally {
+            Thread.interrupted();
+        }
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import hudson.model.TaskListener;
+import java.util.concurrent.TimeUnit;
+import jenkins.scm.impl.mock.MockSCMController;
+import jenkins.scm.impl.mock.MockSCMHead;
+import jenkins.scm.impl.mock.MockSCMRevision;
+import jenkins.scm.impl.mock.MockSCMSource;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class QuietPeriodBuildStrategyImplTest {
+
+    @Test
+    void given__new_revision__when__isAutomaticBuild__then__returns_false_until_quiet() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            MockSCMHead head = new MockSCMHead("master");
+            MockSCMRevision revision = new MockSCMRevision(head, "rev1");
+            QuietPeriodBuildStrategyImpl strategy = new QuietPeriodBuildStrategyImpl(300);
+            assertThat(strategy.isAutomaticBuild(source, head, revision, null, null, TaskListener.NULL), is(false));
+            assertThat(strategy.isAutomaticBuild(source, head, revision, null, null, TaskListener.NULL), is(false));
+            assertThat(
+                    new QuietPeriodBuildStrategyImpl(0).isAutomaticBuild(
+                            source, head, revision, null, null, TaskListener.NULL),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__settled_revision__when__isAutomaticBuild__then__returns_true() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            MockSCMHead head = new MockSCMHead("master");
+            MockSCMRevision revision = new MockSCMRevision(head, "rev1");
+            RevisionFirstSeenIndex.firstSeen(
+                    source.getId(),
+                    head.getName(),
+                    revision.toString(),
+                    System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(6));
+            QuietPeriodBuildStrategyImpl strategy = new QuietPeriodBuildStrategyImpl(300);
+            assertThat(strategy.isAutomaticBuild(source, head, revision, null, null, TaskListener.NULL), is(true));
+            MockSCMRevision pushed = new MockSCMRevision(head, "rev2");
+            assertThat(strategy.isAutomaticBuild(source, head, pushed, null, null, TaskListener.NULL), is(false));
+        }
+    }
+
+    @Test
+    void equalsContract() {
+        EqualsVerifier.forClass(QuietPeriodBuildStrategyImpl.class)
+                .usingGetClass()
+                .verify();
+    }
+}
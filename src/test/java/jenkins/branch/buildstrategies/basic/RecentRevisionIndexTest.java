@@ -0,0 +1,66 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import org.junit.jupiter.api.Test;
+
+class RecentRevisionIndexTest {
+
+    @Test
+    void given__recorded_revision__when__lastBuilt__then__latest_time_returned() {
+        RecentRevisionIndex index = new RecentRevisionIndex(64);
+        assertThat(index.lastBuilt("abc"), is(-1L));
+        index.record("abc", 1000L);
+        index.record("abc", 500L);
+        assertThat(index.lastBuilt("abc"), is(1000L));
+        index.record("abc", 2000L);
+        assertThat(index.lastBuilt("abc"), is(2000L));
+        assertThat(index.lastBuilt("abd"), is(-1L));
+    }
+
+    @Test
+    void given__full_index__when__record__then__least_recently_built_forgotten() {
+        RecentRevisionIndex index = new RecentRevisionIndex(RecentRevisionIndex.BUCKET_SIZE);
+        for (int i = 0; i < RecentRevisionIndex.BUCKET_SIZE; i++) {
+            index.record("rev" + i, 1000L + i);
+        }
+        index.record("rev0", 5000L);
+        index.record("new", 6000L);
+        assertThat(index.lastBuilt("rev0"), is(5000L));
+        assertThat(index.lastBuilt("rev1"), is(-1L));
+        assertThat(index.lastBuilt("rev2"), is(1002L));
+        assertThat(index.lastBuilt("new"), is(6000L));
+    }
+
+    @Test
+    void given__revision__when__hash__then__never_empty_marker() {
+        assertThat(RecentRevisionIndex.hash(""), not(0L));
+        assertThat(RecentRevisionIndex.hash("abc"), is(RecentRevisionIndex.hash("abc")));
+        assertThat(RecentRevisionIndex.hash("abc"), not(RecentRevisionIndex.hash("abd")));
+    }
+}
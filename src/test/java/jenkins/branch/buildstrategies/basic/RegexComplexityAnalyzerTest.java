@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class RegexComplexityAnalyzerTest {
+
+    @Test
+    void given__simple_regex__when__analyze__then__no_hazards() {
+        assertThat(RegexComplexityAnalyzer.analyze("^.*$"), is(empty()));
+        assertThat(RegexComplexityAnalyzer.analyze("^staging-.*$"), is(empty()));
+        assertThat(RegexComplexityAnalyzer.analyze("^(feature|bugfix)/[A-Z]+-\\d+$"), is(empty()));
+        assertThat(RegexComplexityAnalyzer.analyze("(?i)^release-\\d+\\.\\d+$"), is(empty()));
+    }
+
+    @Test
+    void given__nested_quantifier__when__analyze__then__hazard() {
+        assertThat(
+                RegexComplexityAnalyzer.analyze("^(\\w+\\s?)*$"),
+                contains(new RegexComplexityAnalyzer.Hazard(
+                        RegexComplexityAnalyzer.Kind.NESTED_QUANTIFIER, "(\\w+\\s?)*")));
+        assertThat(
+                RegexComplexityAnalyzer.analyze("(.*a){20}"),
+                contains(new RegexComplexityAnalyzer.Hazard(
+                        RegexComplexityAnalyzer.Kind.NESTED_QUANTIFIER, "(.*a){20}")));
+    }
+
+    @Test
+    void given__possessive_or_atomic__when__analyze__then__no_hazards() {
+        assertThat(RegexComplexityAnalyzer.analyze("(a++)+"), is(empty()));
+        assertThat(RegexComplexityAnalyzer.analyze("(?>a+)+"), is(empty()));
+    }
+
+    @Test
+    void given__overlapping_alternation__when__analyze__then__hazard() {
+        assertThat(
+                RegexComplexityAnalyzer.analyze("^(\\w|\\d)+$"),
+                contains(new RegexComplexityAnalyzer.Hazard(
+                        RegexComplexityAnalyzer.Kind.OVERLAPPING_ALTERNATION, "(\\w|\\d)+")));
+        assertThat(RegexComplexityAnalyzer.analyze("^(?:a|b)*$"), is(empty()));
+    }
+
+    @Test
+    void given__overlapping_adjacent_quantifiers__when__analyze__then__hazard() {
+        assertThat(
+                RegexComplexityAnalyzer.analyze("\\d+\\w*x"),
+                contains(new RegexComplexityAnalyzer.Hazard(
+                        RegexComplexityAnalyzer.Kind.OVERLAPPING_ADJACENT_QUANTIFIERS, "\\d+\\w*")));
+        assertThat(RegexComplexityAnalyzer.analyze("[a-z]+[0-9]+"), is(empty()));
+    }
+
+    @Test
+    void given__catastrophic_regex__when__trial_run__then__slow_input_found() {
+        assertThat(RegexComplexityAnalyzer.findSlowInput(Pattern.compile("(.*a){20}"), 50L), is(notNullValue()));
+        assertThat(RegexComplexityAnalyzer.findSlowInput(Pattern.compile("^staging-.*$"), 50L), is(nullValue()));
+    }
+}
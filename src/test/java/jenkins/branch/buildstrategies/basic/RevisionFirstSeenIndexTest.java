@@ -0,0 +1,47 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+class RevisionFirstSeenIndexTest {
+
+    @Test
+    void given__same_revision__when__firstSeen__then__keeps_first_time() {
+        assertThat(RevisionFirstSeenIndex.firstSeen("seen-source", "feature", "rev1", 1000L), is(1000L));
+        assertThat(RevisionFirstSeenIndex.firstSeen("seen-source", "feature", "rev1", 2000L), is(1000L));
+        assertThat(RevisionFirstSeenIndex.firstSeen("seen-source", "other", "rev1", 3000L), is(3000L));
+        assertThat(RevisionFirstSeenIndex.firstSeen("other-source", "feature", "rev1", 4000L), is(4000L));
+    }
+
+    @Test
+    void given__new_revision__when__firstSeen__then__starts_over() {
+        assertThat(RevisionFirstSeenIndex.firstSeen("moved-source", "feature", "rev1", 1000L), is(1000L));
+        assertThat(RevisionFirstSeenIndex.firstSeen("moved-source", "feature", "rev2", 2000L), is(2000L));
+        assertThat(RevisionFirstSeenIndex.firstSeen("moved-source", "feature", "rev1", 3000L), is(3000L));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionRangeTest {
+
+    @Test
+    void given__bounds__when__contains__then__all_bounds_hold() {
+        SemanticVersionRange range = SemanticVersionRange.parse(">=2.0.0 <3.0.0");
+        assertThat(range.contains(SemanticVersion.parseUncached("1.9.9")), is(false));
+        assertThat(range.contains(SemanticVersion.parseUncached("2.0.0")), is(true));
+        assertThat(range.contains(SemanticVersion.parseUncached("2.9.0")), is(true));
+        assertThat(range.contains(SemanticVersion.parseUncached("3.0.0-rc.1")), is(true));
+        assertThat(range.contains(SemanticVersion.parseUncached("3.0.0")), is(false));
+    }
+
+    @Test
+    void given__alternatives__when__contains__then__any_alternative_holds() {
+        SemanticVersionRange range = SemanticVersionRange.parse(">=1.8.0 <1.9.0 || >2.0.0 || =0.5.0 || 0.6.0");
+        assertThat(range.contains(SemanticVersion.parseUncached("1.8.5")), is(true));
+        assertThat(range.contains(SemanticVersion.parseUncached("1.9.0")), is(false));
+        assertThat(range.contains(SemanticVersion.parseUncached("2.0.0")), is(false));
+        assertThat(range.contains(SemanticVersion.parseUncached("2.0.1")), is(true));
+        assertThat(range.contains(SemanticVersion.parseUncached("0.5.0")), is(true));
+        assertThat(range.contains(SemanticVersion.parseUncached("0.6.0")), is(true));
+        assertThat(range.contains(SemanticVersion.parseUncached("0.7.0")), is(false));
+    }
+
+    @Test
+    void given__space_after_operator__when__contains__then__same_as_without() {
+        SemanticVersionRange range = SemanticVersionRange.parse(">= 2.0.0 <  3.0.0 || = 0.5.0");
+        assertThat(range.contains(SemanticVersion.parseUncached("1.9.9")), is(false));
+        assertThat(range.contains(SemanticVersion.parseUncached("2.0.0")), is(true));
+        assertThat(range.contains(SemanticVersion.parseUncached("3.0.0")), is(false));
+        assertThat(range.contains(SemanticVersion.parseUncached("0.5.0")), is(true));
+    }
+
+    @Test
+    void given__blank__when__contains__then__every_version() {
+        assertThat(SemanticVersionRange.parse("").contains(SemanticVersion.parseUncached("0.0.1")), is(true));
+        assertThat(SemanticVersionRange.parse("  ").contains(SemanticVersion.parseUncached("9.0.0")), is(true));
+    }
+
+    @Test
+    void given__invalid__when__parse__then__rejected() {
+        assertThrows(IllegalArgumentException.class, () -> SemanticVersionRange.parse(">=2.0"));
+        assertThrows(IllegalArgumentException.class, () -> SemanticVersionRange.parse("=>2.0.0"));
+        assertThrows(IllegalArgumentException.class, () -> SemanticVersionRange.parse(">=2.0.0 ||"));
+        assertThrows(IllegalArgumentException.class, () -> SemanticVersionRange.parse(">= 2.0.0 <"));
+    }
+}
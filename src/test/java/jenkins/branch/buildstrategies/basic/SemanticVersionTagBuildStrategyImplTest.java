@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import hudson.model.TaskListener;
+import hudson.util.FormValidation;
+import jenkins.scm.impl.mock.MockSCMController;
+import jenkins.scm.impl.mock.MockSCMHead;
+import jenkins.scm.impl.mock.MockSCMRevision;
+import jenkins.scm.impl.mock.MockSCMSource;
+import jenkins.scm.impl.mock.MockTagSCMHead;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionTagBuildStrategyImplTest {
+
+    @Test
+    void given__regular_head__when__isAutomaticBuild__then__returns_false() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMHead head = new MockSCMHead("2.1.0");
+            assertThat(
+                    new SemanticVersionTagBuildStrategyImpl("", false)
+                            .isAutomaticBuild(
+                                    new MockSCMSource(c, "dummy"),
+                                    head,
+                                    new MockSCMRevision(head, "dummy"),
+                                    null,
+                                    null,
+                                    TaskListener.NULL),
+                    is(false));
+        }
+    }
+
+    @Test
+    void given__tags__when__isAutomaticBuild__then__only_versions_in_range() {
+        try (MockSCMController c = MockSCMController.create()) {
+            SemanticVersionTagBuildStrategyImpl strategy =
+                    new SemanticVersionTagBuildStrategyImpl(">=2.0.0 <3.0.0", false);
+            assertThat(isAutomaticBuild(c, strategy, "v2.1.0"), is(true));
+            assertThat(isAutomaticBuild(c, strategy, "2.1.0"), is(true));
+            assertThat(isAutomaticBuild(c, strategy, "v2.1.0-rc.1"), is(false));
+            assertThat(isAutomaticBuild(c, strategy, "v1.9.0"), is(false));
+            assertThat(isAutomaticBuild(c, strategy, "v3.0.0"), is(false));
+            assertThat(isAutomaticBuild(c, strategy, "latest-stable"), is(false));
+            assertThat(
+                    isAutomaticBuild(c, new SemanticVersionTagBuildStrategyImpl(">=2.0.0 <3.0.0", true), "v2.1.0-rc.1"),
+                    is(true));
+            assertThat(isAutomaticBuild(c, new SemanticVersionTagBuildStrategyImpl(null, false), "v0.1.0"), is(true));
+        }
+    }
+
+    @Test
+    void given__invalid_range__when__isAutomaticBuild__then__returns_false() {
+        try (MockSCMController c = MockSCMController.create()) {
+            SemanticVersionTagBuildStrategyImpl strategy = new SemanticVersionTagBuildStrategyImpl(">=2", false);
+            MockTagSCMHead head = new MockTagSCMHead("v2.1.0", System.currentTimeMillis());
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            new MockSCMSource(c, "dummy"),
+                            head,
+                            new MockSCMRevision(head, "dummy"),
+                            null,
+                            null,
+                            TaskListener.NULL),
+                    is(false));
+        }
+    }
+
+    @Test
+    void given__invalid_range__when__doCheckRange__then__error() {
+        SemanticVersionTagBuildStrategyImpl.DescriptorImpl descriptor =
+                new SemanticVersionTagBuildStrategyImpl.DescriptorImpl();
+        assertThat(descriptor.doCheckRange(">=2").kind, is(FormValidation.Kind.ERROR));
+        assertThat(descriptor.doCheckRange(">= 2.0.0 < 3.0.0").kind, is(FormValidation.Kind.OK));
+        assertThat(descriptor.doCheckRange(null).kind, is(FormValidation.Kind.OK));
+    }
+
+    @Test
+    void equalsContract() {
+        EqualsVerifier.forClass(SemanticVersionTagBuildStrategyImpl.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    private static boolean isAutomaticBuild(
+            MockSCMController c, SemanticVersionTagBuildStrategyImpl strategy, String name) {
+        MockTagSCMHead head = new MockTagSCMHead(name, System.currentTimeMillis());
+        return strategy.isAutomaticBuild(
+                new MockSCMSource(c, "dummy"), head, new MockSCMRevision(head, "dummy"), null, null, TaskListener.NULL);
+    }
+}
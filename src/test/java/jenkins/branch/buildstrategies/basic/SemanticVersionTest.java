@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionTest {
+
+    @Test
+    void given__version__when__parse__then__parts_returned() {
+        SemanticVersion version = SemanticVersion.parse("v2.10.3-rc.1+build.5");
+        assertThat(version.major(), is(2L));
+        assertThat(version.minor(), is(10L));
+        assertThat(version.patch(), is(3L));
+        assertThat(version.prerelease(), contains("rc", "1"));
+        assertThat(version.isPrerelease(), is(true));
+        assertThat(version.toString(), is("2.10.3-rc.1"));
+        assertThat(SemanticVersion.parse("v2.10.3-rc.1+build.5"), sameInstance(version));
+    }
+
+    @Test
+    void given__not_a_version__when__parse__then__null() {
+        assertThat(SemanticVersion.parse("latest-stable"), nullValue());
+        assertThat(SemanticVersion.parse("1.2"), nullValue());
+        assertThat(SemanticVersion.parse("01.2.3"), nullValue());
+        assertThat(SemanticVersion.parse("1.2.3-"), nullValue());
+        assertThat(SemanticVersion.parse("1.0.0-01"), nullValue());
+        assertThat(SemanticVersion.parse("1.0.0-rc.01"), nullValue());
+        assertThat(SemanticVersion.parse("release-1.2.3"), nullValue());
+    }
+
+    @Test
+    void given__versions__when__compareTo__then__semver_precedence() {
+        String[] ordered = {
+            "1.0.0-alpha",
+            "1.0.0-alpha.1",
+            "1.0.0-alpha.0a",
+            "1.0.0-alpha.beta",
+            "1.0.0-beta",
+            "1.0.0-beta.2",
+            "1.0.0-beta.11",
+            "1.0.0-rc.1",
+            "1.0.0",
+            "1.0.1",
+            "1.2.0",
+            "1.10.0",
+            "2.0.0"
+        };
+        for (int i = 0; i < ordered.length - 1; i++) {
+            SemanticVersion lower = SemanticVersion.parseUncached(ordered[i]);
+            SemanticVersion higher = SemanticVersion.parseUncached(ordered[i + 1]);
+            assertThat(ordered[i] + " < " + ordered[i + 1], lower.compareTo(higher), lessThan(0));
+            assertThat(ordered[i + 1] + " > " + ordered[i], higher.compareTo(lower), greaterThan(0));
+        }
+        assertThat(
+                SemanticVersion.parseUncached("1.0.0+a").compareTo(SemanticVersion.parseUncached("v1.0.0+b")), is(0));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import hudson.model.TaskListener;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import jenkins.scm.impl.mock.MockSCMController;
+import jenkins.scm.impl.mock.MockSCMHead;
+import jenkins.scm.impl.mock.MockSCMRevision;
+import jenkins.scm.impl.mock.MockSCMSource;
+import jenkins.scm.impl.mock.MockTagSCMHead;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class SkipRecentlyBuiltRevisionBuildStrategyImplTest {
+
+    @Test
+    void given__revision_not_built__when__isAutomaticBuild__then__returns_true() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMHead head = new MockSCMHead("master");
+            assertThat(
+                    new SkipRecentlyBuiltRevisionBuildStrategyImpl(60)
+                            .isAutomaticBuild(
+                                    new MockSCMSource(c, "dummy"),
+                                    head,
+                                    new MockSCMRevision(head, UUID.randomUUID().toString()),
+                                    null,
+                                    null,
+                                    TaskListener.NULL),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__revision_built_recently__when__isAutomaticBuild__then__returns_false() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMHead head = new MockSCMHead("master");
+            MockSCMRevision revision = new MockSCMRevision(head, UUID.randomUUID().toString());
+            RecentRevisionIndex.get().record(revision.toString(), System.currentTimeMillis());
+            assertThat(
+                    new SkipRecentlyBuiltRevisionBuildStrategyImpl(60)
+                            .isAutomaticBuild(
+                                    new MockSCMSource(c, "dummy"), head, revision, null, null, TaskListener.NULL),
+                    is(false));
+            assertThat(
+                    new SkipRecentlyBuiltRevisionBuildStrategyImpl(0)
+                            .isAutomaticBuild(
+                                    new MockSCMSource(c, "dummy"), head, revision, null, null, TaskListener.NULL),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__revision_built_long_ago__when__isAutomaticBuild__then__returns_true() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMHead head = new MockSCMHead("master");
+            MockSCMRevision revision = new MockSCMRevision(head, UUID.randomUUID().toString());
+            RecentRevisionIndex.get()
+                    .record(revision.toString(), System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(61));
+            assertThat(
+                    new SkipRecentlyBuiltRevisionBuildStrategyImpl(60)
+                            .isAutomaticBuild(
+                                    new MockSCMSource(c, "dummy"), head, revision, null, null, TaskListener.NULL),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__revision_built_by_other_head__when__isAutomaticBuild__then__new_branch_and_tag_not_built() {
+        try (MockSCMController c = MockSCMController.create()) {
+            String hash = UUID.randomUUID().toString();
+            MockSCMHead master = new MockSCMHead("master");
+            RecentRevisionIndex.get().record(new MockSCMRevision(master, hash).toString(), System.currentTimeMillis());
+            SkipRecentlyBuiltRevisionBuildStrategyImpl strategy = new SkipRecentlyBuiltRevisionBuildStrategyImpl(60);
+            MockSCMHead branch = new MockSCMHead("feature");
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            new MockSCMSource(c, "dummy"),
+                            branch,
+                            new MockSCMRevision(branch, hash),
+                            null,
+                            null,
+                            TaskListener.NULL),
+                    is(false));
+            MockTagSCMHead tag = new MockTagSCMHead("v1.0", System.currentTimeMillis());
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            new MockSCMSource(c, "dummy"),
+                            tag,
+                            new MockSCMRevision(tag, hash),
+                            null,
+                            null,
+                            TaskListener.NULL),
+                    is(false));
+        }
+    }
+
+    @Test
+    void given__source__when__isAutomaticBuild__then__only_that_source_recorded() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            String other = UUID.randomUUID().toString();
+            MockSCMHead head = new MockSCMHead("master");
+            new SkipRecentlyBuiltRevisionBuildStrategyImpl(0)
+                    .isAutomaticBuild(source, head, new MockSCMRevision(head, "dummy"), null, null, TaskListener.NULL);
+            assertThat(RecentRevisionIndex.isOptedIn(source.getId()), is(false));
+            new SkipRecentlyBuiltRevisionBuildStrategyImpl(60)
+                    .isAutomaticBuild(source, head, new MockSCMRevision(head, "dummy"), null, null, TaskListener.NULL);
+            assertThat(RecentRevisionIndex.isOptedIn(source.getId()), is(true));
+            assertThat(RecentRevisionIndex.isOptedIn(other), is(false));
+            assertThat(RecentRevisionIndex.isOptedIn(null), is(false));
+        }
+    }
+
+    @Test
+    void equalsContract() {
+        EqualsVerifier.forClass(SkipRecentlyBuiltRevisionBuildStrategyImpl.class)
+                .usingGetClass()
+                .verify();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.TaskListener;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import jenkins.branch.buildstrategies.basic.harness.TagSource;
+import jenkins.scm.api.SCMHeadEvent;
+import jenkins.scm.api.SCMHeadObserver;
+import jenkins.scm.api.SCMSourceCriteria;
+import org.junit.jupiter.api.Test;
+
+class SourceTagIndexTest {
+
+    @Test
+    void given__tags__when__get__then__grouped_by_revision_and_fetched_once() throws Exception {
+        TagSource source = new TagSource();
+        source.addTag("v1.0", 1000L, "abc");
+        source.addTag("stable", 2000L, "abc");
+        source.addTag("v0.9", 500L, "def");
+        SourceTagIndex.Snapshot snapshot = SourceTagIndex.get(source, TaskListener.NULL);
+        assertThat(
+                snapshot.atRevision("abc"),
+                containsInAnyOrder(
+                        new SourceTagIndex.Tag("v1.0", 1000L, "abc"), new SourceTagIndex.Tag("stable", 2000L, "abc")));
+        assertThat(snapshot.atRevision("def"), containsInAnyOrder(new SourceTagIndex.Tag("v0.9", 500L, "def")));
+        assertThat(snapshot.atRevision("123"), is(empty()));
+        assertThat(SourceTagIndex.get(source, TaskListener.NULL), sameInstance(snapshot));
+        assertThat(source.getRetrievals(), is(1));
+    }
+
+    @Test
+    void given__tags__when__last__then__never_fetched() throws Exception {
+        TagSource source = new TagSource();
+        source.addTag("v1.0", 1000L, "abc");
+        assertThat(SourceTagIndex.last(source), nullValue());
+        assertThat(source.getRetrievals(), is(0));
+        SourceTagIndex.Snapshot snapshot = SourceTagIndex.get(source, TaskListener.NULL);
+        assertThat(SourceTagIndex.last(source), sameInstance(snapshot));
+        assertThat(source.getRetrievals(), is(1));
+    }
+
+    @Test
+    void given__concurrent_questions__when__get__then__single_fetch_outside_lock() throws Exception {
+        BlockingTagSource source = new BlockingTagSource();
+        source.addTag("v1.0", 1000L, "abc");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<SourceTagIndex.Snapshot> first =
+                    executor.submit(() -> SourceTagIndex.get(source, TaskListener.NULL));
+            source.entered.await();
+            AtomicReference<Thread> waiter = new AtomicReference<>();
+            Future<SourceTagIndex.Snapshot> second = executor.submit(() -> {
+                waiter.set(Thread.currentThread());
+                return SourceTagIndex.get(source, TaskListener.NULL);
+            });
+            while (waiter.get() == null || waiter.get().getState() != Thread.State.WAITING) {
+                Thread.sleep(10);
+            }
+            source.release.countDown();
+            assertThat(second.get(), sameInstance(first.get()));
+            assertThat(source.getRetrievals(), is(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void given__failed_fetch__when__get__then__fetched_again() throws Exception {
+        FailingTagSource source = new FailingTagSource();
+        source.addTag("v1.0", 1000L, "abc");
+        assertThrows(IOException.class, () -> SourceTagIndex.get(source, TaskListener.NULL));
+        source.failing = false;
+        assertThat(
+                SourceTagIndex.get(source, TaskListener.NULL).atRevision("abc"),
+                containsInAnyOrder(new SourceTagIndex.Tag("v1.0", 1000L, "abc")));
+        assertThat(source.getRetrievals(), is(2));
+    }
+
+    @Test
+    void given__tags__when__oldestOfNewest__then__timestamp_of_kth_newest() throws Exception {
+        TagSource source = new TagSource();
+        source.addTag("a", 3000L, "a");
+        source.addTag("b", 1000L, "b");
+        source.addTag("c", 5000L, "c");
+        source.addTag("d", 4000L, "d");
+        source.addTag("e", 2000L, "e");
+        SourceTagIndex.Snapshot snapshot = SourceTagIndex.get(source, TaskListener.NULL);
+        assertThat(snapshot.oldestOfNewest(1), is(5000L));
+        assertThat(snapshot.oldestOfNewest(3), is(3000L));
+        assertThat(snapshot.oldestOfNewest(5), is(1000L));
+        assertThat(snapshot.oldestOfNewest(6), is(Long.MIN_VALUE));
+    }
+
+    private static class BlockingTagSource extends TagSource {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void retrieve(
+                SCMSourceCriteria criteria,
+                @NonNull SCMHeadObserver observer,
+                SCMHeadEvent<?> event,
+                @NonNull TaskListener listener)
+                throws IOException, InterruptedException {
+            entered.countDown();
+            release.await();
+            super.retrieve(criteria, observer, event, listener);
+        }
+    }
+
+    private static class FailingTagSource extends TagSource {
+        volatile boolean failing = true;
+
+        @Override
+        protected void retrieve(
+                SCMSourceCriteria criteria,
+                @NonNull SCMHeadObserver observer,
+                SCMHeadEvent<?> event,
+                @NonNull TaskListener listener)
+                throws IOException, InterruptedException {
+            super.retrieve(criteria, observer, event, listener);
+            if (failing) {
+                throw new IOException("Fail");
+            }
+        }
+    }
+}
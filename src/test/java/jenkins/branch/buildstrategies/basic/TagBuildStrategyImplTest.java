@@ -27,7 +27,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 
+import hudson.model.TaskListener;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
+import jenkins.branch.buildstrategies.basic.NamedBranchBuildStrategyImpl.NameFilter;
+import jenkins.branch.buildstrategies.basic.harness.TagSource;
 import jenkins.scm.api.SCMHeadOrigin;
 import jenkins.scm.api.mixin.ChangeRequestCheckoutStrategy;
 import jenkins.scm.impl.mock.MockChangeRequestSCMHead;
@@ -38,6 +42,7 @@ import jenkins.scm.impl.mock.MockSCMRevision;
 import jenkins.scm.impl.mock.MockSCMSource;
 import jenkins.scm.impl.mock.MockTagSCMHead;
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 import org.junit.jupiter.api.Test;
 
 class TagBuildStrategyImplTest {
@@ -192,8 +197,136 @@ class TagBuildStrategyImplTest {
         }
     }
 
+    @Test
+    void given__tags_at_same_revision__when__one_tag_per_revision__then__only_newest_built() {
+        TagSource source = new TagSource();
+        TagSource.TagRevision patch = source.addTag("v1.2.3", 1000L, "abc");
+        TagSource.TagRevision minor = source.addTag("v1.2", 2000L, "abc");
+        TagSource.TagRevision stable = source.addTag("latest-stable", 3000L, "abc");
+        TagSource.TagRevision other = source.addTag("v1.1.0", 500L, "def");
+        TagBuildStrategyImpl strategy = new TagBuildStrategyImpl(TimeUnit.DAYS, null, null);
+        strategy.setOneTagPerRevision(true);
+        assertThat(strategy.isAutomaticBuild(source, patch.getHead(), patch, null, null, TaskListener.NULL), is(false));
+        assertThat(strategy.isAutomaticBuild(source, minor.getHead(), minor, null, null, TaskListener.NULL), is(false));
+        assertThat(
+                strategy.isAutomaticBuild(source, stable.getHead(), stable, null, null, TaskListener.NULL),
+                is(true));
+        assertThat(strategy.isAutomaticBuild(source, other.getHead(), other, null, null, TaskListener.NULL), is(true));
+        assertThat(source.getRetrievals(), is(1));
+        assertThat(
+                new TagBuildStrategyImpl(TimeUnit.DAYS, null, null)
+                        .isAutomaticBuild(source, patch.getHead(), patch, null, null, TaskListener.NULL),
+                is(true));
+    }
+
+    @Test
+    void given__tags_at_same_revision__when__tag_priority__then__first_matching_wildcard_built() {
+        TagSource source = new TagSource();
+        TagSource.TagRevision patch = source.addTag("v1.2.3", 1000L, "abc");
+        TagSource.TagRevision minor = source.addTag("v1.2", 2000L, "abc");
+        TagSource.TagRevision stable = source.addTag("latest-stable", 3000L, "abc");
+        TagBuildStrategyImpl strategy = new TagBuildStrategyImpl(TimeUnit.DAYS, null, null);
+        strategy.setOneTagPerRevision(true);
+        strategy.setTagPriority("v*.*.* v*.*");
+        assertThat(strategy.isAutomaticBuild(source, patch.getHead(), patch, null, null, TaskListener.NULL), is(true));
+        assertThat(strategy.isAutomaticBuild(source, minor.getHead(), minor, null, null, TaskListener.NULL), is(false));
+        assertThat(
+                strategy.isAutomaticBuild(source, stable.getHead(), stable, null, null, TaskListener.NULL),
+                is(false));
+        assertThat(
+                strategy.toString(),
+                is("TagBuildStrategyImpl{atLeast=n/a, atMost=n/a, oneTagPerRevision, tagPriority=v*.*.* v*.*}"));
+    }
+
+    @Test
+    void given__preferred_tag_outside_age_window__when__one_tag_per_revision__then__other_tag_built() {
+        long now = System.currentTimeMillis();
+        TagSource source = new TagSource();
+        TagSource.TagRevision old = source.addTag("v1.0", now - TimeUnit.DAYS.toMillis(5), "abc");
+        TagSource.TagRevision stable = source.addTag("latest-stable", now, "abc");
+        TagBuildStrategyImpl strategy = new TagBuildStrategyImpl(TimeUnit.DAYS, null, 3L);
+        strategy.setOneTagPerRevision(true);
+        strategy.setTagPriority("v*");
+        assertThat(strategy.isAutomaticBuild(source, old.getHead(), old, null, null, TaskListener.NULL), is(false));
+        assertThat(
+                strategy.isAutomaticBuild(source, stable.getHead(), stable, null, null, TaskListener.NULL),
+                is(true));
+    }
+
+    @Test
+    void given__newer_tag_not_matching_filters__when__one_tag_per_revision__then__matching_tag_built() {
+        TagSource source = new TagSource();
+        TagSource.TagRevision release = source.addTag("release-1.0", 1000L, "abc");
+        TagSource.TagRevision stable = source.addTag("latest-stable", 2000L, "abc");
+        TagBuildStrategyImpl strategy = new TagBuildStrategyImpl(TimeUnit.DAYS, null, null);
+        strategy.setOneTagPerRevision(true);
+        strategy.setFilters(
+                Collections.singletonList(new NamedBranchBuildStrategyImpl.WildcardsNameFilter("release-*", "", true)));
+        assertThat(
+                strategy.isAutomaticBuild(source, release.getHead(), release, null, null, TaskListener.NULL),
+                is(true));
+        assertThat(
+                strategy.isAutomaticBuild(source, stable.getHead(), stable, null, null, TaskListener.NULL),
+                is(false));
+    }
+
+    @Test
+    void given__many_tags__when__newest_tags__then__only_newest_built() {
+        TagSource source = new TagSource();
+        TagSource.TagRevision oldest = source.addTag("v1.0", 1000L, "abc");
+        TagSource.TagRevision older = source.addTag("v1.1", 2000L, "def");
+        TagSource.TagRevision newest = source.addTag("v1.2", 3000L, "123");
+        TagBuildStrategyImpl strategy = new TagBuildStrategyImpl(TimeUnit.DAYS, null, null);
+        strategy.setNewestTags(2);
+        assertThat(
+                strategy.isAutomaticBuild(source, oldest.getHead(), oldest, null, null, TaskListener.NULL),
+                is(false));
+        assertThat(strategy.isAutomaticBuild(source, older.getHead(), older, null, null, TaskListener.NULL), is(true));
+        assertThat(
+                strategy.isAutomaticBuild(source, newest.getHead(), newest, null, null, TaskListener.NULL),
+                is(true));
+        TagSource.TagRevision created = new TagSource.TagRevision(new MockTagSCMHead("v1.3", 4000L), "456");
+        assertThat(
+                strategy.isAutomaticBuild(source, created.getHead(), created, null, null, TaskListener.NULL),
+                is(true));
+        assertThat(source.getRetrievals(), is(1));
+        assertThat(strategy.toString(), is("TagBuildStrategyImpl{atLeast=n/a, atMost=n/a, newestTags=2}"));
+    }
+
+    @Test
+    void given__tag_filters__when__isAutomaticBuild__then__only_matching_names_within_age() {
+        try (MockSCMController c = MockSCMController.create()) {
+            MockSCMSource source = new MockSCMSource(c, "dummy");
+            NameFilter filter = new NamedBranchBuildStrategyImpl.WildcardsNameFilter("release-*", "", true);
+            TagBuildStrategyImpl strategy = new TagBuildStrategyImpl(TimeUnit.DAYS, null, 3L);
+            strategy.setFilters(Collections.singletonList(filter));
+            MockTagSCMHead release = new MockTagSCMHead("release-1.0", System.currentTimeMillis());
+            MockTagSCMHead other = new MockTagSCMHead("nightly-1.0", System.currentTimeMillis());
+            MockTagSCMHead old =
+                    new MockTagSCMHead("release-0.9", System.currentTimeMillis() - TimeUnit.DAYS.toMillis(5));
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            source, release, new MockSCMRevision(release, "dummy"), null, null, TaskListener.NULL),
+                    is(true));
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            source, other, new MockSCMRevision(other, "dummy"), null, null, TaskListener.NULL),
+                    is(false));
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            source, old, new MockSCMRevision(old, "dummy"), null, null, TaskListener.NULL),
+                    is(false));
+            assertThat(
+                    strategy.toString(),
+                    is("TagBuildStrategyImpl{atLeast=n/a, atMost=3 days 0 hr, filters=[" + filter + "]}"));
+        }
+    }
+
     @Test
     void equalsContract() {
-        EqualsVerifier.forClass(TagBuildStrategyImpl.class).usingGetClass().verify();
+        EqualsVerifier.forClass(TagBuildStrategyImpl.class)
+                .usingGetClass()
+                .suppress(Warning.NONFINAL_FIELDS)
+                .verify();
     }
 }
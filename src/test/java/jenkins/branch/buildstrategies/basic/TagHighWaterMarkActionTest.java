@@ -0,0 +1,159 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import hudson.model.FreeStyleProject;
+import hudson.model.TaskListener;
+import java.util.Collections;
+import jenkins.branch.BranchSource;
+import jenkins.branch.buildstrategies.basic.harness.BasicMultiBranchProject;
+import jenkins.scm.api.SCMSource;
+import jenkins.scm.api.mixin.TagSCMHead;
+import jenkins.scm.impl.mock.MockSCMController;
+import jenkins.scm.impl.mock.MockSCMDiscoverTags;
+import jenkins.scm.impl.mock.MockSCMRevision;
+import jenkins.scm.impl.mock.MockSCMSource;
+import jenkins.scm.impl.mock.MockTagSCMHead;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class TagHighWaterMarkActionTest {
+
+    /**
+     * All tests in this class only create items and do not affect other global configuration, thus we trade test
+     * execution time for the restriction on only touching items.
+     */
+    private static JenkinsRule j;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        j = rule;
+    }
+
+    @Test
+    void given__marks__when__advance__then__only_moves_forward() {
+        TagHighWaterMarkAction marks = new TagHighWaterMarkAction();
+        assertThat(marks.getMark("source"), is(Long.MIN_VALUE));
+        assertThat(marks.advance("source", 2000L), is(true));
+        assertThat(marks.advance("source", 1000L), is(false));
+        assertThat(marks.advance("source", 2000L), is(false));
+        assertThat(marks.getMark("source"), is(2000L));
+        assertThat(marks.getMark("other"), is(Long.MIN_VALUE));
+    }
+
+    @Test
+    void given__tag_built__when__isAutomaticBuild__then__older_tags_ignored() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            c.createTag("foo", "master", "v1");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "marks");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverTags()));
+            TagBuildStrategyImpl strategy = new TagBuildStrategyImpl("", "");
+            strategy.setIgnoreOlderThanBuilt(true);
+            source.setBuildStrategies(Collections.singletonList(strategy));
+            prj.getSourcesList().add(source);
+            prj.scheduleBuild2(0).getFuture().get();
+            j.waitUntilNoActivity();
+            FreeStyleProject v1 = prj.getItem("v1");
+            assertThat("The tag was built", v1.getLastBuild(), notNullValue());
+            long timestamp = ((TagSCMHead) prj.getProjectFactory().getBranch(v1).getHead()).getTimestamp();
+            SCMSource scmSource = prj.getSources().get(0).getSource();
+            assertThat(prj.getAction(TagHighWaterMarkAction.class).getMark(scmSource.getId()), is(timestamp));
+            MockTagSCMHead older = new MockTagSCMHead("v0", timestamp - 1000L);
+            MockTagSCMHead newer = new MockTagSCMHead("v2", timestamp + 1000L);
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            scmSource, older, new MockSCMRevision(older, "dummy"), null, null, TaskListener.NULL),
+                    is(false));
+            assertThat(
+                    strategy.isAutomaticBuild(
+                            scmSource, newer, new MockSCMRevision(newer, "dummy"), null, null, TaskListener.NULL),
+                    is(true));
+            assertThat(
+                    new TagBuildStrategyImpl("", "")
+                            .isAutomaticBuild(
+                                    scmSource,
+                                    older,
+                                    new MockSCMRevision(older, "dummy"),
+                                    null,
+                                    null,
+                                    TaskListener.NULL),
+                    is(true));
+        }
+    }
+
+    @Test
+    void given__tag_built__when__reloaded__then__mark_kept() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            c.createTag("foo", "master", "v1");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "marks-reload");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverTags()));
+            TagBuildStrategyImpl strategy = new TagBuildStrategyImpl("", "");
+            strategy.setIgnoreOlderThanBuilt(true);
+            source.setBuildStrategies(Collections.singletonList(strategy));
+            prj.getSourcesList().add(source);
+            prj.scheduleBuild2(0).getFuture().get();
+            j.waitUntilNoActivity();
+            FreeStyleProject v1 = prj.getItem("v1");
+            long timestamp = ((TagSCMHead) prj.getProjectFactory().getBranch(v1).getHead()).getTimestamp();
+            String sourceId = prj.getSources().get(0).getSource().getId();
+            j.jenkins.reload();
+            BasicMultiBranchProject reloaded =
+                    j.jenkins.getItemByFullName("marks-reload", BasicMultiBranchProject.class);
+            assertThat(reloaded, not(sameInstance(prj)));
+            assertThat(reloaded.getAction(TagHighWaterMarkAction.class).getMark(sourceId), is(timestamp));
+        }
+    }
+
+    @Test
+    void given__strategy_not_ignoring_older_tags__when__tag_built__then__no_mark_recorded() throws Exception {
+        try (MockSCMController c = MockSCMController.create()) {
+            c.createRepository("foo");
+            c.createTag("foo", "master", "v1");
+            BasicMultiBranchProject prj = j.jenkins.createProject(BasicMultiBranchProject.class, "marks-opt-out");
+            prj.setCriteria(null);
+            BranchSource source = new BranchSource(new MockSCMSource(c, "foo", new MockSCMDiscoverTags()));
+            source.setBuildStrategies(Collections.singletonList(new TagBuildStrategyImpl("", "")));
+            prj.getSourcesList().add(source);
+            prj.scheduleBuild2(0).getFuture().get();
+            j.waitUntilNoActivity();
+            FreeStyleProject v1 = prj.getItem("v1");
+            assertThat("The tag was built", v1.getLastBuild(), notNullValue());
+            assertThat(prj.getAction(TagHighWaterMarkAction.class), nullValue());
+        }
+    }
+}
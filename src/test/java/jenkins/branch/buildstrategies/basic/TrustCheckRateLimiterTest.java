@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.TimeUnit;
+import jenkins.scm.impl.mock.MockSCMController;
+import jenkins.scm.impl.mock.MockSCMSource;
+import org.junit.jupiter.api.Test;
+
+class TrustCheckRateLimiterTest {
+
+    @Test
+    void given__burst__when__reserve__then__waits_once_bucket_empty() {
+        TrustCheckRateLimiter.TokenBucket bucket = new TrustCheckRateLimiter.TokenBucket(60);
+        long now = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            assertThat(bucket.reserve(now, Long.MAX_VALUE), is(0L));
+        }
+        assertThat(bucket.reserve(now, Long.MAX_VALUE), is(TimeUnit.SECONDS.toNanos(1)));
+        assertThat(bucket.reserve(now, Long.MAX_VALUE), is(TimeUnit.SECONDS.toNanos(2)));
+        assertThat(bucket.reserve(now + TimeUnit.SECONDS.toNanos(3), Long.MAX_VALUE), is(0L));
+        assertThat(bucket.reserve(now + TimeUnit.SECONDS.toNanos(3), Long.MAX_VALUE), is(TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void given__idle_bucket__when__reserve__then__burst_capped() {
+        TrustCheckRateLimiter.TokenBucket bucket = new TrustCheckRateLimiter.TokenBucket(60);
+        long later = System.nanoTime() + TimeUnit.HOURS.toNanos(1);
+        for (int i = 0; i < 6; i++) {
+            assertThat(bucket.reserve(later, Long.MAX_VALUE), is(0L));
+        }
+        assertThat(bucket.reserve(later, Long.MAX_VALUE), is(TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void given__long_wait__when__reserve__then__rejected_without_taking_token() {
+        TrustCheckRateLimiter.TokenBucket bucket = new TrustCheckRateLimiter.TokenBucket(60);
+        long now = System.nanoTime();
+        long maxWait = TimeUnit.SECONDS.toNanos(1);
+        for (int i = 0; i < 6; i++) {
+            assertThat(bucket.reserve(now, maxWait), is(0L));
+        }
+        assertThat(bucket.reserve(now, maxWait), is(TimeUnit.SECONDS.toNanos(1)));
+        assertThat(bucket.reserve(now, maxWait), is(-1L));
+        assertThat(bucket.reserve(now + TimeUnit.SECONDS.toNanos(1), maxWait), is(TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void given__source_without_folder__when__checksPerMinute__then__global_default() {
+        try (MockSCMController c = MockSCMController.create()) {
+            assertThat(
+                    TrustCheckRateLimiter.checksPerMinute(new MockSCMSource(c, "dummy")),
+                    is(TrustCheckRateLimiter.CHECKS_PER_MINUTE));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.TaskListener;
+import hudson.scm.SCM;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMHeadEvent;
+import jenkins.scm.api.SCMHeadObserver;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMSource;
+import jenkins.scm.api.SCMSourceCriteria;
+import jenkins.scm.impl.mock.MockSCMHead;
+import jenkins.scm.impl.mock.MockSCMRevision;
+import org.junit.jupiter.api.Test;
+
+class TrustedRevisionLookupTest {
+
+    @Test
+    void given__concurrent_lookups__when__getTrustedRevision__then__source_called_once() throws Exception {
+        SlowTrustSource source = new SlowTrustSource();
+        SCMRevision revision = new MockSCMRevision(new MockSCMHead("PR-1"), "abc");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<SCMRevision> first =
+                    executor.submit(() -> TrustedRevisionLookup.getTrustedRevision(
+                            source, revision, TaskListener.NULL));
+            source.entered.await();
+            AtomicReference<Thread> waiter = new AtomicReference<>();
+            Future<SCMRevision> second = executor.submit(() -> {
+                waiter.set(Thread.currentThread());
+                return TrustedRevisionLookup.getTrustedRevision(source, revision, TaskListener.NULL);
+            });
+            while (waiter.get() == null || waiter.get().getState() != Thread.State.WAITING) {
+                Thread.sleep(10);
+            }
+            source.release.countDown();
+            assertThat(first.get(), sameInstance(source.trusted));
+            assertThat(second.get(), sameInstance(source.trusted));
+            assertThat(source.calls.get(), is(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void given__interrupted_lookup__when__getTrustedRevision__then__waiter_looks_up_again() throws Exception {
+        SlowTrustSource source = new SlowTrustSource();
+        SCMRevision revision = new MockSCMRevision(new MockSCMHead("PR-1"), "abc");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            AtomicReference<Thread> leader = new AtomicReference<>();
+            Future<SCMRevision> first = executor.submit(() -> {
+                leader.set(Thread.currentThread());
+                return TrustedRevisionLookup.getTrustedRevision(source, revision, TaskListener.NULL);
+            });
+            source.entered.await();
+            AtomicReference<Thread> waiter = new AtomicReference<>();
+            Future<SCMRevision> second = executor.submit(() -> {
+                waiter.set(Thread.currentThread());
+                return TrustedRevisionLookup.getTrustedRevision(source, revision, TaskListener.NULL);
+            });
+            while (waiter.get() == null || waiter.get().getState() != Thread.State.WAITING) {
+                Thread.sleep(10);
+            }
+            leader.get().interrupt();
+            ExecutionException e = assertThrows(ExecutionException.class, first::get);
+            assertThat(e.getCause(), instanceOf(InterruptedException.class));
+            source.release.countDown();
+            assertThat(second.get(), sameInstance(source.trusted));
+            assertThat(source.calls.get(), is(2));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void given__sequential_lookups__when__getTrustedRevision__then__source_called_each_time() throws Exception {
+        SlowTrustSource source = new SlowTrustSource();
+        source.release.countDown();
+        SCMRevision revision = new MockSCMRevision(new MockSCMHead("PR-1"), "abc");
+        TrustedRevisionLookup.getTrustedRevision(source, revision, TaskListener.NULL);
+        TrustedRevisionLookup.getTrustedRevision(source, revision, TaskListener.NULL);
+        assertThat(source.calls.get(), is(2));
+    }
+
+    @Test
+    void given__failed_lookup__when__getTrustedRevision__then__not_retried_during_backoff() throws Exception {
+        FailingTrustSource source = new FailingTrustSource();
+        SCMRevision revision = new MockSCMRevision(new MockSCMHead("PR-1"), "abc");
+        assertThrows(
+                IOException.class, () -> TrustedRevisionLookup.getTrustedRevision(source, revision, TaskListener.NULL));
+        IOException e = assertThrows(
+                IOException.class, () -> TrustedRevisionLookup.getTrustedRevision(source, revision, TaskListener.NULL));
+        assertThat(e.getMessage(), containsString("as the last check failed"));
+        assertThat(source.calls.get(), is(1));
+    }
+
+    @Test
+    void given__repeatedly_failing_source__when__getTrustedRevision__then__circuit_opens() throws Exception {
+        FailingTrustSource source = new FailingTrustSource();
+        for (int i = 0; i < TrustedRevisionLookup.FAILURE_THRESHOLD; i++) {
+            SCMRevision revision = new MockSCMRevision(new MockSCMHead("PR-" + i), "abc");
+            assertThrows(
+                    IOException.class,
+                    () -> TrustedRevisionLookup.getTrustedRevision(source, revision, TaskListener.NULL));
+        }
+        SCMRevision revision = new MockSCMRevision(new MockSCMHead("PR-next"), "abc");
+        IOException e = assertThrows(
+                IOException.class, () -> TrustedRevisionLookup.getTrustedRevision(source, revision, TaskListener.NULL));
+        assertThat(e.getMessage(), containsString("checks of the source failed"));
+        assertThat(source.calls.get(), is(TrustedRevisionLookup.FAILURE_THRESHOLD));
+    }
+
+    @Test
+    void given__slow_source__when__call__then__times_out() {
+        SlowTrustSource source = new SlowTrustSource();
+        SCMRevision revision = new MockSCMRevision(new MockSCMHead("PR-1"), "abc");
+        IOException e = assertThrows(
+                IOException.class, () -> TrustedRevisionLookup.call(source, revision, TaskListener.NULL, 50L));
+        assertThat(e.getMessage(), containsString("Timed out after 50ms"));
+    }
+
+    @Test
+    void given__busy_executor__when__submit__then__rejected() throws Exception {
+        ExecutorService executor = TrustedRevisionLookup.newExecutor(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.submit(() -> {
+                release.await();
+                return null;
+            });
+            executor.submit(() -> null);
+            assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> null));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static class FailingTrustSource extends SlowTrustSource {
+        @NonNull
+        @Override
+        public SCMRevision getTrustedRevision(@NonNull SCMRevision revision, TaskListener listener)
+                throws IOException {
+            calls.incrementAndGet();
+            throw new IOException("Fail");
+        }
+    }
+
+    private static class SlowTrustSource extends SCMSource {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final SCMRevision trusted = new MockSCMRevision(new MockSCMHead("PR-1"), "trusted");
+
+        @NonNull
+        @Override
+        public SCMRevision getTrustedRevision(@NonNull SCMRevision revision, TaskListener listener)
+                throws IOException, InterruptedException {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.await();
+            return trusted;
+        }
+
+        @Override
+        protected void retrieve(
+                SCMSourceCriteria criteria,
+                @NonNull SCMHeadObserver observer,
+                SCMHeadEvent<?> event,
+                @NonNull TaskListener listener)
+                throws IOException, InterruptedException {}
+
+        @NonNull
+        @Override
+        public SCM build(@NonNull SCMHead head, SCMRevision revision) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, CloudBees, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package jenkins.branch.buildstrategies.basic.harness;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.TaskListener;
+import hudson.scm.SCM;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMHeadEvent;
+import jenkins.scm.api.SCMHeadObserver;
+import jenkins.scm.api.SCMRevision;
+import jenkins.scm.api.SCMSource;
+import jenkins.scm.api.SCMSourceCriteria;
+import jenkins.scm.impl.mock.MockTagSCMHead;
+
+/**
+ * A source with only tags, whose revisions are identified by their hash alone so that several tags can point at the
+ * same revision.
+ */
+public class TagSource extends SCMSource {
+    private final List<TagRevision> tags = new CopyOnWriteArrayList<>();
+    private final AtomicInteger retrievals = new AtomicInteger();
+
+    public TagRevision addTag(String name, long timestamp, String hash) {
+        TagRevision revision = new TagRevision(new MockTagSCMHead(name, timestamp), hash);
+        tags.add(revision);
+        return revision;
+    }
+
+    public int getRetrievals() {
+        return retrievals.get();
+    }
+
+    @Override
+    protected void retrieve(
+            SCMSourceCriteria criteria,
+            @NonNull SCMHeadObserver observer,
+            SCMHeadEvent<?> event,
+            @NonNull TaskListener listener)
+            throws IOException, InterruptedException {
+        retrievals.incrementAndGet();
+        for (TagRevision revision : tags) {
+            observer.observe(revision.getHead(), revision);
+        }
+    }
+
+    @NonNull
+    @Override
+    public SCM build(@NonNull SCMHead head, SCMRevision revision) {
+        throw new UnsupportedOperationException();
+    }
+
+    public static class TagRevision extends SCMRevision {
+        private final String hash;
+
+        public TagRevision(@NonNull SCMHead head, @NonNull String hash) {
+            super(head);
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TagRevision that = (TagRevision) o;
+            return getHead().equals(that.getHead()) && hash.equals(that.hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return hash;
+        }
+    }
+}